@@ -18,7 +18,13 @@ public class Day01 {
     private static final int START_POS = 50;   // Position initiale
 
     public static void main(String[] args) {
-        List<String> lines = InputReader.readDay(1);
+        if (args.length > 0 && args[0].equals("batch")) {
+            mainBatch();
+            return;
+        }
+
+        // Lecture en streaming: chaque partie est un fold sur les commandes (mémoire O(1))
+        LineSource<String> lines = LineSource.ofDay(1);
 
         // ===== PART 1 =====
         long startTime = System.nanoTime();
@@ -38,62 +44,117 @@ public class Day01 {
     /**
      * Part 1: Compter les fois où le dial S'ARRETE sur 0.
      */
-    private static long solvePart1(List<String> lines) {
-        int pos = START_POS;
-        int count = 0;
-
-        for (String command : lines) {
+    private static long solvePart1(LineSource<String> lines) {
+        return lines
             // Parser la commande (ex: "L68" -> -68, "R48" -> +48)
-            int steps = parseCommand(command);
+            .map(Day01::parseCommand)
+            .fold(new Dial(START_POS, 0), Day01::stopAt)
+            .count();
+    }
 
-            // Appliquer la rotation (modulo circulaire)
-            pos = MathUtils.mod(pos + steps, DIAL_SIZE);
+    /**
+     * Part 2: Compter les fois où le dial PASSE par 0 (y compris pendant la rotation).
+     */
+    private static long solvePart2(LineSource<String> lines) {
+        return lines
+            .map(Day01::parseCommand)
+            .fold(new Dial(START_POS, 0), Day01::passThrough)
+            .count();
+    }
 
-            // Compter si on s'arrête sur 0
-            if (pos == 0) {
-                count++;
-            }
-        }
+    /**
+     * État du dial: position courante et nombre de passages par 0 comptés.
+     */
+    record Dial(int pos, long count) {}
+
+    private static Dial stopAt(Dial dial, int steps) {
+        // Appliquer la rotation (modulo circulaire)
+        int pos = MathUtils.mod(dial.pos() + steps, DIAL_SIZE);
 
-        return count;
+        // Compter si on s'arrête sur 0
+        return new Dial(pos, pos == 0 ? dial.count() + 1 : dial.count());
+    }
+
+    private static Dial passThrough(Dial dial, int steps) {
+        int pos = MathUtils.mod(dial.pos() + steps, DIAL_SIZE);
+        return new Dial(pos, dial.count() + zeroPasses(dial.pos(), steps));
     }
 
     /**
-     * Part 2: Compter les fois où le dial PASSE par 0 (y compris pendant la rotation).
+     * Nombre de clics qui amènent le dial sur 0 pendant une rotation, en O(1):
+     * multiples de DIAL_SIZE dans ]pos, pos + steps] (droite) ou [pos + steps, pos[ (gauche).
      */
-    private static long solvePart2(List<String> lines) {
-        int pos = START_POS;
-        int count = 0;
-
-        for (String command : lines) {
-            int steps = parseCommand(command);
-
-            // Position linéaire (sans modulo) pour calculer les passages
-            int newPos = pos + steps;
-
-            // Compter les tours complets (chaque tour passe par 0 une fois)
-            while (newPos - pos >= DIAL_SIZE) {
-                count++;
-                newPos -= DIAL_SIZE;
-            }
-            while (pos - newPos >= DIAL_SIZE) {
-                count++;
-                newPos += DIAL_SIZE;
-            }
-
-            // Passage par 0 dans la rotation partielle restante
-            if ((newPos % DIAL_SIZE) == 0 || newPos > DIAL_SIZE) {
-                count++;
-            }
-            if (pos > 0 && newPos < 0) {
-                count++;
-            }
-
-            // Normaliser la position finale
-            pos = MathUtils.mod(newPos, DIAL_SIZE);
+    private static long zeroPasses(long pos, long steps) {
+        if (steps >= 0) {
+            return Math.floorDiv(pos + steps, DIAL_SIZE) - Math.floorDiv(pos, DIAL_SIZE);
         }
+        return Math.floorDiv(pos - 1, DIAL_SIZE) - Math.floorDiv(pos + steps - 1, DIAL_SIZE);
+    }
+
+    // ========== BATCH MODE ==========
 
-        return count;
+    /**
+     * Mode batch ("batch" en argument): toutes les commandes en long[] (parse parallèle),
+     * puis comptage parallèle par segments.
+     */
+    private static void mainBatch() {
+        long startTime = System.nanoTime();
+        long[] deltas = InputReader.parallelParse("input/input_day01.txt", (line, out) -> {
+            if (line.isEmpty()) return;
+            long steps = line.nextLong();
+            out.add(Character.toUpperCase(line.charAt(0)) == 'R' ? steps : -steps);
+        });
+        System.out.println("Parsed " + deltas.length + " commands in " +
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms");
+
+        startTime = System.nanoTime();
+        long result1 = countZeros(deltas, false);
+        System.out.println("Result part 1 : " + result1 + " in " +
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms");
+
+        startTime = System.nanoTime();
+        long result2 = countZeros(deltas, true);
+        System.out.println("Result part 2 : " + result2 + " in " +
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + "ms");
+    }
+
+    /**
+     * Décalages du dial modulo DIAL_SIZE: la somme préfixe reste dans [0, DIAL_SIZE)
+     * quel que soit le nombre de commandes (pas de débordement).
+     */
+    private static final ParallelScan.Monoid<Long> DIAL_OFFSET =
+        ParallelScan.Monoid.of(0L, (a, b) -> (a + b) % DIAL_SIZE);
+
+    /**
+     * Compte les arrêts sur 0 (passes = false) ou les passages par 0 (passes = true)
+     * en parallèle. Les zéros d'un segment dépendent de sa position de départ:
+     * ParallelScan.scan calcule d'abord le décalage net de chaque segment, puis
+     * chaque segment compte ses zéros depuis START_POS + somme des décalages précédents;
+     * les comptes des segments s'additionnent.
+     */
+    private static long countZeros(long[] deltas, boolean passes) {
+        return ParallelScan.scan(deltas,
+            DIAL_OFFSET, (values, from, to) -> chunkOffset(values, from, to),
+            ParallelScan.Monoid.LONG_SUM, (prefix, values, from, to) -> {
+                long p = (START_POS + prefix) % DIAL_SIZE;
+                long zeros = 0;
+                for (int i = from; i < to; i++) {
+                    long next = MathUtils.mod(p + values[i], DIAL_SIZE);
+                    zeros += passes ? zeroPasses(p, values[i]) : (next == 0 ? 1 : 0);
+                    p = next;
+                }
+                return zeros;
+            });
+    }
+
+    /**
+     * Décalage net d'un chunk modulo DIAL_SIZE. Chaque terme est réduit avant
+     * l'addition (|terme| < DIAL_SIZE): pas de débordement pour un chunk de moins de 2^31 commandes.
+     */
+    private static long chunkOffset(long[] values, int from, int to) {
+        long offset = 0;
+        for (int i = from; i < to; i++) offset += values[i] % DIAL_SIZE;
+        return MathUtils.mod(offset, DIAL_SIZE);
     }
 
     /**
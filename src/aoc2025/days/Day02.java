@@ -2,7 +2,8 @@ package aoc2025.days;
 
 import aoc2025.utils.*;
 
-import java.math.BigInteger;
+import aoc2025.utils.MathUtils.LongAccumulator128;
+
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
@@ -15,36 +16,36 @@ import java.util.concurrent.TimeUnit;
  */
 public class Day02 {
 
+    // Input parsé une seule fois, partagé par les deux parties
+    private static final ParsedInput<List<Range>> INPUT =
+            ParsedInput.of(2, lines -> parseRanges(lines.get(0))).persistent(1);
+
     public static void main(String[] args) {
-        List<String> lines = InputReader.readDay(2);
+        List<Range> ranges = INPUT.get();
 
         // ===== PART 1 =====
         long startTime = System.nanoTime();
-        BigInteger result1 = solvePart1(lines);
+        LongAccumulator128 result1 = solvePart1(ranges);
         long part1Time = System.nanoTime() - startTime;
         System.out.println("Result part 1 : " + result1 + " in " +
                 TimeUnit.NANOSECONDS.toMillis(part1Time) + "ms");
 
         // ===== PART 2 =====
         startTime = System.nanoTime();
-        BigInteger result2 = solvePart2(lines);
+        LongAccumulator128 result2 = solvePart2(ranges);
         long part2Time = System.nanoTime() - startTime;
         System.out.println("Result part 2 : " + result2 + " in " +
                 TimeUnit.NANOSECONDS.toMillis(part2Time) + "ms");
     }
 
-    private static BigInteger solvePart1(List<String> lines) {
-        List<Range> ranges = parseRanges(lines.get(0));
-        return ranges.stream()
-                .map(Day02::sumInvalidIdsPart1)
-                .reduce(BigInteger.ZERO, BigInteger::add);
+    private static LongAccumulator128 solvePart1(List<Range> ranges) {
+        return ranges.parallelStream()
+                .collect(LongAccumulator128.collecting(Day02::sumInvalidIdsPart1));
     }
 
-    private static BigInteger solvePart2(List<String> lines) {
-        List<Range> ranges = parseRanges(lines.get(0));
-        return ranges.stream()
-                .map(Day02::sumInvalidIdsPart2)
-                .reduce(BigInteger.ZERO, BigInteger::add);
+    private static LongAccumulator128 solvePart2(List<Range> ranges) {
+        return ranges.parallelStream()
+                .collect(LongAccumulator128.collecting(Day02::sumInvalidIdsPart2));
     }
 
     /**
@@ -53,10 +54,7 @@ public class Day02 {
      */
     private static List<Range> parseRanges(String line) {
         return Arrays.stream(line.split(","))
-                .map(s -> {
-                    String[] parts = s.split("-");
-                    return new Range(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
-                })
+                .map(s -> Range.parse(s.trim()))
                 .toList();
     }
 
@@ -64,104 +62,109 @@ public class Day02 {
      * Part 1: Somme des IDs invalides (motif répété exactement 2 fois).
      * Ex: 1212 = "12" répété 2 fois
      */
-    private static BigInteger sumInvalidIdsPart1(Range range) {
-        BigInteger sum = BigInteger.ZERO;
-
-        // On cherche uniquement les nombres avec un nombre pair de chiffres
-        long start = nextNumberWithDigitCount(range.start(), 2);
-        if (start > range.end()) return BigInteger.ZERO;
-
-        int numDigits = countDigits(start);
-        String startStr = String.valueOf(start);
-        long pattern = Long.parseLong(startStr.substring(0, numDigits / 2));
-        long id = buildRepeatedId(pattern, 2);
-
-        // Avancer jusqu'au premier ID dans la range
-        while (id < range.start()) {
-            pattern++;
-            id = buildRepeatedId(pattern, 2);
-        }
-
-        // Collecter tous les IDs invalides dans la range
-        while (range.contains(id)) {
-            sum = sum.add(BigInteger.valueOf(id));
-            pattern++;
-            id = buildRepeatedId(pattern, 2);
+    private static void sumInvalidIdsPart1(LongAccumulator128 sum, Range range) {
+        // Uniquement les nombres avec un nombre pair de chiffres: motif de D/2 chiffres
+        for (int digits = countDigits(range.start()); digits <= countDigits(range.end()); digits++) {
+            if (digits % 2 == 0) {
+                sumRepeatedIds(sum, range, digits, digits / 2, false);
+            }
         }
-
-        return sum;
     }
 
     /**
      * Part 2: Somme des IDs invalides (motif répété au moins 2 fois).
      * Ex: 121212 = "12" répété 3 fois, 111 = "1" répété 3 fois
+     *
+     * Un ID de D chiffres est invalide s'il a une période L = D/q pour un premier q | D.
+     * Les IDs de période L1 et L2 ont aussi la période pgcd(L1, L2): inclusion-exclusion
+     * via Möbius, somme = Σ_{d | D, d > 1} -μ(d) × somme(IDs de période D/d).
+     * Pas de dédoublonnage par ensemble.
      */
-    private static BigInteger sumInvalidIdsPart2(Range range) {
-        Set<BigInteger> invalidIds = new HashSet<>();
-        int maxDigits = countDigits(range.end());
-
-        // Tester toutes les tailles de répétition possibles (2, 3, 4, ...)
-        for (int repetitions = 2; repetitions <= maxDigits; repetitions++) {
-            long start = nextNumberWithDigitCount(range.start(), repetitions);
-            if (start > range.end()) continue;
-
-            int numDigits = countDigits(start);
-            int patternLength = numDigits / repetitions;
-            if (patternLength == 0) continue;
-
-            String startStr = String.valueOf(start);
-            long pattern = Long.parseLong(startStr.substring(0, patternLength));
-            long id = buildRepeatedId(pattern, repetitions);
-
-            // Avancer jusqu'au premier ID dans la range
-            while (id < range.start()) {
-                pattern++;
-                id = buildRepeatedId(pattern, repetitions);
-            }
-
-            // Collecter tous les IDs invalides dans la range
-            while (range.contains(id)) {
-                invalidIds.add(BigInteger.valueOf(id));
-                pattern++;
-                id = buildRepeatedId(pattern, repetitions);
+    private static void sumInvalidIdsPart2(LongAccumulator128 sum, Range range) {
+        for (int digits = countDigits(range.start()); digits <= countDigits(range.end()); digits++) {
+            for (int d = 2; d <= digits; d++) {
+                int mu = mobius(d);
+                if (digits % d != 0 || mu == 0) continue;
+                sumRepeatedIds(sum, range, digits, digits / d, mu > 0);
             }
         }
+    }
+
+    // ========== ARITHMETIC ENGINE ==========
 
-        return invalidIds.stream()
-                .reduce(BigInteger.ZERO, BigInteger::add);
+    private static final int MAX_DIGITS = 19;  // Long.MAX_VALUE a 19 chiffres
+
+    // POW10[i] = 10^i, i = 0..18
+    private static final long[] POW10 = new long[MAX_DIGITS];
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < MAX_DIGITS; i++) POW10[i] = POW10[i - 1] * 10;
     }
 
     /**
-     * Construit un ID en répétant un motif n fois.
-     * Ex: buildRepeatedId(12, 3) -> 121212
+     * Somme des IDs de 'digits' chiffres dans la range formés d'un motif de
+     * 'period' chiffres répété: id = motif × (10^digits - 1) / (10^period - 1).
+     * Les motifs valides forment un intervalle: somme arithmétique en O(1),
+     * ajoutée (ou retranchée si subtract) à l'accumulateur 128 bits.
      */
-    private static long buildRepeatedId(long pattern, int repetitions) {
-        String patternStr = String.valueOf(pattern);
-        return Long.parseLong(patternStr.repeat(repetitions));
+    private static void sumRepeatedIds(LongAccumulator128 sum, Range range, int digits, int period, boolean subtract) {
+        long multiplier = repeatMultiplier(digits, period);
+
+        // Restreindre la range aux nombres de 'digits' chiffres
+        long lo = Math.max(range.start(), POW10[digits - 1]);
+        long hi = Math.min(range.end(), digits < MAX_DIGITS ? POW10[digits] - 1 : Long.MAX_VALUE);
+        if (lo > hi) return;
+
+        // Motifs de exactement 'period' chiffres tels que motif × multiplier ∈ [lo, hi]
+        long first = Math.max(POW10[period - 1], lo / multiplier + (lo % multiplier == 0 ? 0 : 1));
+        long last = Math.min(POW10[period] - 1, hi / multiplier);
+        if (first > last) return;
+
+        // Σ motif = (first + last) × count / 2 (motifs < 10^9: tient dans un long),
+        // puis × multiplier exact sur 128 bits
+        long count = last - first + 1;
+        long bounds = first + last;
+        long patternSum = bounds % 2 == 0 ? bounds / 2 * count : bounds * (count / 2);
+        if (subtract) {
+            sum.subtractProduct(patternSum, multiplier);
+        } else {
+            sum.addProduct(patternSum, multiplier);
+        }
     }
 
     /**
-     * Compte le nombre de chiffres d'un nombre.
+     * (10^digits - 1) / (10^period - 1) = 1 0..01 0..01 ... (digits/period blocs).
+     * Ex: repeatMultiplier(6, 2) -> 10101 (12 × 10101 = 121212)
      */
-    private static int countDigits(long n) {
-        if (n == 0) return 1;
-        return (int) Math.log10(n) + 1;
+    private static long repeatMultiplier(int digits, int period) {
+        long multiplier = 1;
+        for (int i = period; i < digits; i += period) {
+            multiplier = multiplier * POW10[period] + 1;
+        }
+        return multiplier;
     }
 
     /**
-     * Trouve le prochain nombre >= x dont le nombre de chiffres est divisible par n.
-     * Ex: nextNumberWithDigitCount(100, 2) -> 1000 (car 100 a 3 chiffres, 1000 en a 4)
+     * Nombre de chiffres d'un nombre positif (table des puissances, pas de log10).
      */
-    private static long nextNumberWithDigitCount(long x, int divisor) {
-        if (x == 0) return (long) Math.pow(10, divisor - 1);
+    private static int countDigits(long n) {
+        int digits = 1;
+        while (digits < MAX_DIGITS && n >= POW10[digits]) digits++;
+        return digits;
+    }
 
-        int numDigits = countDigits(x);
-        if (numDigits % divisor == 0) {
-            return x;
+    /**
+     * Fonction de Möbius: 0 si n a un facteur carré, sinon (-1)^(nombre de facteurs premiers).
+     */
+    private static int mobius(int n) {
+        int mu = 1;
+        for (int p = 2; p * p <= n; p++) {
+            if (n % p == 0) {
+                n /= p;
+                if (n % p == 0) return 0;
+                mu = -mu;
+            }
         }
-
-        // Trouver le prochain multiple de divisor
-        int targetDigits = numDigits + (divisor - numDigits % divisor);
-        return (long) Math.pow(10, targetDigits - 1);
+        return n > 1 ? -mu : mu;
     }
 }
@@ -5,61 +5,49 @@ import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Advent of Code 2025 - Day 3
+ * Advent of Code 2025 - Day 3: Lobby
  * https://adventofcode.com/2025/day/3
+ *
+ * Puzzle: Chaque ligne est une banque de batteries (un chiffre par batterie).
+ * Allumer k batteries dans l'ordre pour former le plus grand nombre possible.
+ * - Part 1: k = 2
+ * - Part 2: k = 12
  */
 public class Day03 {
 
     public static void main(String[] args) {
-        // Lecture de l'input
         List<String> lines = InputReader.readDay(3);
-        // String content = InputReader.readAll("input/input_day03.txt");
 
         // ===== PART 1 =====
         long startTime = System.nanoTime();
-
         long result1 = solvePart1(lines);
-
         long part1Time = System.nanoTime() - startTime;
         System.out.println("Result part 1 : " + result1 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part1Time) + "ms");
 
         // ===== PART 2 =====
         startTime = System.nanoTime();
-
         long result2 = solvePart2(lines);
-
         long part2Time = System.nanoTime() - startTime;
         System.out.println("Result part 2 : " + result2 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part2Time) + "ms");
     }
 
     private static long solvePart1(List<String> lines) {
-        // TODO: Implémenter part 1
-        return 0;
+        return totalJoltage(lines, 2);
     }
 
     private static long solvePart2(List<String> lines) {
-        // TODO: Implémenter part 2
-        return 0;
+        return totalJoltage(lines, 12);
     }
 
-    // ===== HELPER METHODS =====
-
-    // Exemples de parsing courants:
-    //
-    // Grid de caractères:
-    //   Grid<Character> grid = Grid.fromLines(lines);
-    //
-    // Grid de chiffres:
-    //   Grid<Integer> grid = Grid.fromDigits(lines);
-    //
-    // Extraction de nombres:
-    //   List<Integer> nums = InputReader.extractInts(line);
-    //
-    // Groupes séparés par lignes vides:
-    //   List<List<String>> groups = InputReader.splitByEmptyLines(lines);
-    //
-    // Parsing regex:
-    //   InputReader.match(line, "(\\w+) (\\d+)").ifPresent(groups -> {...});
+    /**
+     * Somme sur toutes les banques du meilleur nombre de k chiffres (lignes en parallèle).
+     */
+    private static long totalJoltage(List<String> lines, int k) {
+        return lines.parallelStream()
+            .filter(line -> !line.isBlank())
+            .mapToLong(line -> StringUtils.maxSubsequence(line.strip(), k))
+            .sum();
+    }
 }
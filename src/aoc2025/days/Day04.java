@@ -13,6 +13,9 @@ import java.util.concurrent.TimeUnit;
  */
 public class Day04 {
 
+    // Un rouleau reste en place s'il a au moins 4 voisins, sinon il est retiré
+    private static final BitGrid.Rule ACCESSIBLE_REMOVED = BitGrid.Rule.survivesWithAtLeast(4);
+
     public static void main(String[] args) {
         // Lecture de l'input
         List<String> lines = InputReader.readDay(4);
@@ -38,32 +41,22 @@ public class Day04 {
     }
 
     private static long solvePart1(List<String> lines) {
-        Grid<Character> grid = Grid.fromLines(lines);
-        return findRemovableRolls(grid).size();
-    }
-
-    private static List<Point2D> findRemovableRolls(Grid<Character> grid) {
-        return grid.findAll('@').stream()
-            .filter(r -> countAdjacentRolls(grid, r) < 4)
-            .toList();
-    }
-
-    private static long countAdjacentRolls(Grid<Character> grid, Point2D pos) {
-        return pos.getNeighbors8().stream()
-            .filter(n -> grid.getOrDefault(n, '.') == '@')
-            .count();
+        BitGrid rolls = BitGrid.fromLines(lines, '@');
+        return rolls.count() - rolls.step(ACCESSIBLE_REMOVED).count();
     }
 
     private static long solvePart2(List<String> lines) {
-        Grid<Character> grid = Grid.fromLines(lines);
-
-        long total = 0;
-        List<Point2D> removable;
-        while (!(removable = findRemovableRolls(grid)).isEmpty()) {
-            total += removable.size();
-            removable.forEach(p -> grid.set(p, '.'));
+        BitGrid rolls = BitGrid.fromLines(lines, '@');
+        long initial = rolls.count();
+
+        // Retirer les rouleaux accessibles jusqu'à stabilisation (steps parallèles par bandes)
+        BitGrid next = new BitGrid(rolls.width, rolls.height);
+        while (GridSimulator.step(rolls, ACCESSIBLE_REMOVED, next) > 0) {
+            BitGrid tmp = rolls;
+            rolls = next;
+            next = tmp;
         }
-        return total;
+        return initial - rolls.count();
     }
 
 }
@@ -13,55 +13,48 @@ import java.util.concurrent.TimeUnit;
  */
 public class Day05 {
 
+    // Input parsé une seule fois, partagé par les deux parties
+    private static final ParsedInput<Database> INPUT = ParsedInput.of(5, Database::parse);
+
     public static void main(String[] args) {
-        List<String> lines = InputReader.readDay(5);
+        Database db = INPUT.get();
 
         // ===== PART 1 =====
         long startTime = System.nanoTime();
-        long result1 = solvePart1(lines);
+        long result1 = solvePart1(db);
         long part1Time = System.nanoTime() - startTime;
         System.out.println("Result part 1 : " + result1 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part1Time) + "ms");
 
         // ===== PART 2 =====
         startTime = System.nanoTime();
-        long result2 = solvePart2(lines);
+        long result2 = solvePart2(db);
         long part2Time = System.nanoTime() - startTime;
         System.out.println("Result part 2 : " + result2 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part2Time) + "ms");
     }
 
-    private static long solvePart1(List<String> lines) {
-    	List<List<String>> groups = InputReader.splitByEmptyLines(lines);
-
-        // Parser les ranges de fraîcheur (format "3-5")
-        List<Range> freshRanges = groups.get(0).stream()
-            .map(line -> {
-                String[] parts = line.split("-");
-                return new Range(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
-            })
-            .toList();
-
-        // Parser les IDs d'ingrédients disponibles
-        List<Long> ingredientIds = groups.get(1).stream()
-            .map(line -> InputReader.extractLongs(line).get(0))
-            .toList();
-
-        // Compter les ingrédients frais (dans au moins un range)
-        return ingredientIds.stream().filter(id -> freshRanges.stream().anyMatch(r -> r.contains(id))).count();
+    private static long solvePart1(Database db) {
+        // Compter les ingrédients frais (dans au moins un range):
+        // ranges fusionnés + IDs triés, puis un seul parcours fusionné
+        RangeSet fresh = RangeSet.of(db.freshRanges());
+        long[] ids = db.ingredientIds().clone();  // Input partagé: ne pas trier en place
+        Arrays.sort(ids);
+        return fresh.countContained(ids);
     }
 
-    private static long solvePart2(List<String> lines) {
-        List<List<String>> groups = InputReader.splitByEmptyLines(lines);
-
-        List<Range> freshRanges = groups.get(0).stream()
-            .map(line -> {
-                String[] parts = line.split("-");
-                return new Range(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
-            })
-            .toList();
-
+    private static long solvePart2(Database db) {
         // Range.totalCoverage fait le merge + somme des longueurs
-        return Range.totalCoverage(freshRanges);
+        return Range.totalCoverage(db.freshRanges());
+    }
+
+    /**
+     * Input: ranges de fraîcheur (format "3-5"), ligne vide, puis IDs d'ingrédients disponibles.
+     */
+    record Database(List<Range> freshRanges, long[] ingredientIds) {
+        static Database parse(List<String> lines) {
+            List<InputReader.Block> blocks = InputReader.blocks(lines);
+            return new Database(blocks.get(0).ranges(), blocks.get(1).longs());
+        }
     }
 }
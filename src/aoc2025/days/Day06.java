@@ -17,103 +17,116 @@ public class Day06 {
     public static void main(String[] args) {
         List<String> lines = InputReader.readDay(6);
 
+        // Un seul passage sur la grille pour les deux orientations
+        Worksheet worksheet = Worksheet.parse(InputReader.parseCharGrid(lines));
+
         // ===== PART 1 =====
         long startTime = System.nanoTime();
-        long result1 = solvePart1(lines);
+        long result1 = solvePart1(worksheet);
         long part1Time = System.nanoTime() - startTime;
         System.out.println("Result part 1 : " + result1 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part1Time) + "ms");
 
         // ===== PART 2 =====
         startTime = System.nanoTime();
-        long result2 = solvePart2(lines);
+        long result2 = solvePart2(worksheet);
         long part2Time = System.nanoTime() - startTime;
         System.out.println("Result part 2 : " + result2 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part2Time) + "ms");
     }
 
-    private static long solvePart1(List<String> lines) {
-        List<Problem> problems = parseProblems(lines);
-
-        return problems.stream().mapToLong(p -> p.compute()).sum();
+    private static long solvePart1(Worksheet worksheet) {
+        return sum(worksheet.byRows());
     }
 
-    private static long solvePart2(List<String> lines) {
-        List<Problem> problems = parseProblemsPart2(lines);
-
-        return problems.stream().mapToLong(p -> p.compute()).sum();
+    private static long solvePart2(Worksheet worksheet) {
+        return sum(worksheet.byColumns());
     }
 
-    private static List<Problem> parseProblems(List<String> lines) {
-        lines = lines.stream().filter(l -> !l.isBlank()).toList();
-
-        // Lignes de nombres
-        List<List<Long>> numberRows = lines.subList(0, lines.size() - 1).stream()
-            .map(InputReader::extractLongs)
-            .toList();
-
-        // Ligne d'opérateurs
-        List<String> operators = InputReader.findAll(lines.get(lines.size() - 1), "[+*]");
-
-        // Construire les problèmes par colonne
-        List<Problem> problems = new ArrayList<>();
-        for (int col = 0; col < operators.size(); col++) {
-            int c = col;
-            List<Long> numbers = numberRows.stream().map(row -> row.get(c)).toList();
-            problems.add(new Problem(new ArrayList<Long>(numbers), operators.get(col).charAt(0)));
+    private static long sum(List<Problem> problems) {
+        long total = 0;
+        for (Problem p : problems) {
+            total += p.compute();
         }
-
-        return problems;
+        return total;
     }
-    
-    private static List<Problem> parseProblemsPart2(List<String> lines) {
-        lines = lines.stream().filter(l -> !l.isBlank()).toList();
-
-        int maxWidth = lines.stream().mapToInt(String::length).max().orElse(0);
-        List<String> numLines = lines.subList(0, lines.size() - 1);
-
-        List<String> operators = InputReader.findAll(lines.get(lines.size() - 1), "[+*]");
 
-        // Lire colonne par colonne, construire un nombre par colonne (chiffres verticaux)
-        List<List<Long>> allNumbers = new ArrayList<>();
-        List<Long> numbers = new ArrayList<>();
-
-        for (int col = 0; col < maxWidth; col++) {
-            // Lire cette colonne verticalement
-            String numberAsString = "";
-            for (String line : numLines) {
-                if (col < line.length() && line.charAt(col) != ' ') {
-                    numberAsString += line.charAt(col);
+    /**
+     * Les problèmes de la feuille, lus dans les deux orientations:
+     * - byRows: un nombre par ligne du bloc (part 1)
+     * - byColumns: un nombre par colonne du bloc, chiffres de haut en bas (part 2)
+     */
+    record Worksheet(List<Problem> byRows, List<Problem> byColumns) {
+
+        /**
+         * Parcours colonne par colonne de la grille (vue transposée, sans copie):
+         * les chiffres sont accumulés numériquement à la fois dans le nombre de leur
+         * ligne et dans celui de leur colonne. Une colonne sans chiffre ferme le problème.
+         * La dernière ligne porte les opérateurs.
+         */
+        static Worksheet parse(char[][] grid) {
+            // Ignorer les lignes vides (ex: fin de fichier)
+            grid = Arrays.stream(grid).filter(row -> !new String(row).isBlank()).toArray(char[][]::new);
+            int numberRows = grid.length - 1;
+            char[] operatorRow = grid[numberRows];
+            int width = Arrays.stream(grid).mapToInt(row -> row.length).max().orElse(0);
+
+            List<Problem> byRows = new ArrayList<>();
+            List<Problem> byColumns = new ArrayList<>();
+
+            long[] rowValues = new long[numberRows];      // Nombre en cours par ligne
+            boolean[] rowHasDigit = new boolean[numberRows];
+            LongList columnValues = new LongList();       // Nombres par colonne du problème en cours
+            char operator = 0;
+
+            for (int col = 0; col <= width; col++) {
+                long columnValue = 0;
+                boolean columnHasDigit = false;
+                for (int row = 0; row < numberRows; row++) {
+                    char c = col < grid[row].length ? grid[row][col] : ' ';
+                    if (c >= '0' && c <= '9') {
+                        rowValues[row] = rowValues[row] * 10 + (c - '0');
+                        rowHasDigit[row] = true;
+                        columnValue = columnValue * 10 + (c - '0');
+                        columnHasDigit = true;
+                    }
+                }
+                char op = col < operatorRow.length ? operatorRow[col] : ' ';
+                if (op == '+' || op == '*') {
+                    operator = op;
                 }
-            }
 
-            if (!numberAsString.isEmpty()) {
-                numbers.add(Long.parseLong(numberAsString));
-            } else if (!numbers.isEmpty()) {
-                allNumbers.add(numbers);
-                numbers = new ArrayList<>();
+                if (columnHasDigit) {
+                    columnValues.add(columnValue);
+                } else if (!columnValues.isEmpty()) {
+                    // Colonne séparatrice (ou fin de grille): fermer le problème
+                    LongList rows = new LongList(numberRows);
+                    for (int row = 0; row < numberRows; row++) {
+                        if (rowHasDigit[row]) rows.add(rowValues[row]);
+                    }
+                    byRows.add(new Problem(rows.toArray(), operator));
+                    byColumns.add(new Problem(columnValues.toArray(), operator));
+
+                    Arrays.fill(rowValues, 0);
+                    Arrays.fill(rowHasDigit, false);
+                    columnValues.clear();
+                    operator = 0;
+                }
             }
+            return new Worksheet(byRows, byColumns);
         }
-        if (!numbers.isEmpty()) {
-            allNumbers.add(numbers);
-        }
-
-        // Construire les problèmes
-        List<Problem> problems = new ArrayList<>();
-        for (int i = 0; i < operators.size(); i++) {
-            problems.add(new Problem(allNumbers.get(i), operators.get(i).charAt(0)));
-        }
-
-        return problems;
     }
 
-    record Problem(List<Long> numbers, char operator) {
+    record Problem(long[] numbers, char operator) {
         long compute() {
             if (operator == '+') {
-                return numbers.stream().mapToLong(Long::longValue).sum();
-            } else {
-                return numbers.stream().mapToLong(Long::longValue).reduce(1L, (a, b) -> a * b);
+                long sum = 0;
+                for (long n : numbers) sum += n;
+                return sum;
             }
+            long product = 1;
+            for (long n : numbers) product *= n;
+            return product;
         }
     }
 }
@@ -14,30 +14,29 @@ import java.util.stream.Collectors;
  */
 public class Day08 {
 
+    // Positions des boîtes, parsées une seule fois pour les deux parties
+    private static final ParsedInput<List<Point3D>> INPUT =
+        ParsedInput.of(8, lines -> lines.stream().map(Point3D::parse).toList()).persistent(1);
+
     public static void main(String[] args) {
-        List<String> lines = InputReader.readDay(8);
+        List<Point3D> boxes = INPUT.get();
 
         // ===== PART 1 =====
         long startTime = System.nanoTime();
-        long result1 = solvePart1(lines);
+        long result1 = solvePart1(boxes);
         long part1Time = System.nanoTime() - startTime;
         System.out.println("Result part 1 : " + result1 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part1Time) + "ms");
 
         // ===== PART 2 =====
         startTime = System.nanoTime();
-        long result2 = solvePart2(lines);
+        long result2 = solvePart2(boxes);
         long part2Time = System.nanoTime() - startTime;
         System.out.println("Result part 2 : " + result2 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part2Time) + "ms");
     }
 
-    private static long solvePart1(List<String> lines) {
-        // Parser les positions des boites
-        List<Point3D> boxes = lines.stream()
-            .map(Point3D::parse)
-            .toList();
-
+    private static long solvePart1(List<Point3D> boxes) {
         // Calculer toutes les paires avec leur distance euclidienne
         List<Edge> edges = new ArrayList<>();
         for (int i = 0; i < boxes.size(); i++) {
@@ -102,11 +101,7 @@ public class Day08 {
         return 0;
     }
 
-    private static long solvePart2(List<String> lines) {
-        List<Point3D> junctions = lines.stream()
-            .map(Point3D::parse)
-            .toList();
-
+    private static long solvePart2(List<Point3D> junctions) {
         // TODO: Implémenter part 2
         return 0;
     }
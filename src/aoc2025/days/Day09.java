@@ -13,29 +13,29 @@ import java.util.concurrent.TimeUnit;
  */
 public class Day09 {
 
+    // Tuiles rouges, parsées une seule fois pour les deux parties
+    private static final ParsedInput<List<Point2D>> INPUT =
+        ParsedInput.of(9, lines -> lines.stream().map(Point2D::parse).toList()).persistent(1);
+
     public static void main(String[] args) {
-        List<String> lines = InputReader.readDay(9);
+        List<Point2D> redTiles = INPUT.get();
 
         // ===== PART 1 =====
         long startTime = System.nanoTime();
-        long result1 = solvePart1(lines);
+        long result1 = solvePart1(redTiles);
         long part1Time = System.nanoTime() - startTime;
         System.out.println("Result part 1 : " + result1 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part1Time) + "ms");
 
         // ===== PART 2 =====
         startTime = System.nanoTime();
-        long result2 = solvePart2(lines);
+        long result2 = solvePart2(redTiles);
         long part2Time = System.nanoTime() - startTime;
         System.out.println("Result part 2 : " + result2 + " in " +
             TimeUnit.NANOSECONDS.toMillis(part2Time) + "ms");
     }
 
-    private static long solvePart1(List<String> lines) {
-        List<Point2D> redTiles = lines.stream()
-            .map(Point2D::parse)
-            .toList();
-
+    private static long solvePart1(List<Point2D> redTiles) {
         long maxArea = 0;
         for (int i = 0; i < redTiles.size(); i++) {
             for (int j = i + 1; j < redTiles.size(); j++) {
@@ -47,11 +47,7 @@ public class Day09 {
         return maxArea;
     }
 
-    private static long solvePart2(List<String> lines) {
-        List<Point2D> redTiles = lines.stream()
-            .map(Point2D::parse)
-            .toList();
-
+    private static long solvePart2(List<Point2D> redTiles) {
         List<Segment> polygonEdges = new ArrayList<>();
         for (int i = 0; i < redTiles.size(); i++) {
             Point2D from = redTiles.get(i);
@@ -2,192 +2,377 @@ package aoc2025.days;
 
 import aoc2025.utils.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
-import java.util.regex.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Advent of Code 2025 - Day 10: Factory
- * Part 1: Toggle lights (XOR) - BFS on bitmask states
- * Part 2: Increment counters - RREF + free variable enumeration
+ * Part 1: Toggle lights (XOR) - solution de poids minimal sur GF(2)
+ * Part 2: Increment counters - élimination exacte + DFS élagué sur les variables libres (ILP si trop large)
  */
 public class Day10 {
 
+    // Chaque ligne est tokenisée une seule fois; chaque partie en dérive sa vue
+    private static final ParsedInput<List<MachineSpec>> MACHINES =
+        ParsedInput.of(10, lines -> lines.stream().map(MachineSpec::parse).toList());
+
     public static void main(String[] args) {
         String inputFile = args.length > 0 && args[0].equals("example")
             ? "input/input_day10_example.txt"
             : "input/input_day10.txt";
-        List<String> lines = InputReader.readLines(inputFile);
+
+        List<MachineSpec> machines = MACHINES.get(inputFile);
 
         long start = System.nanoTime();
-        long result1 = solvePart1(lines);
+        long result1 = solvePart1(machines);
         System.out.println("Result part 1 : " + result1 + " in " +
             TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
 
         start = System.nanoTime();
-        long result2 = solvePart2(lines);
+        long result2 = solvePart2(machines);
         System.out.println("Result part 2 : " + result2 + " in " +
             TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms");
     }
 
     // ==================== PART 1 ====================
 
-    private static long solvePart1(List<String> lines) {
-        return lines.stream().mapToLong(line -> findMinPresses(Machine.parse(line))).sum();
+    private static long solvePart1(List<MachineSpec> machines) {
+        return machines.stream().mapToLong(Day10::minPresses).sum();
     }
 
-    private static int findMinPresses(Machine m) {
-        Queue<int[]> queue = new LinkedList<>();
-        Set<Integer> visited = new HashSet<>();
-        queue.add(new int[]{0, 0});
-        visited.add(0);
-
-        while (!queue.isEmpty()) {
-            int[] cur = queue.poll();
-            if (cur[0] == m.target) return cur[1];
-            for (int btn : m.buttons) {
-                int next = cur[0] ^ btn;
-                if (visited.add(next)) queue.add(new int[]{next, cur[1] + 1});
-            }
+    /**
+     * Système A x = lumières sur GF(2): une ligne par lumière, une colonne par bouton.
+     * Presser deux fois un bouton s'annule, donc x est binaire et le nombre de pressions
+     * est son poids; solution de poids minimal au lieu d'un BFS sur les 2^lumières états.
+     * Construit depuis les indices des boutons: pas de limite sur le nombre de lumières.
+     * Limite: au-delà de 40 boutons (meet-in-the-middle plafonné), un noyau de dimension
+     * > 30 n'est pas énuméré; la machine est alors rejetée (IllegalStateException).
+     */
+    static int minPresses(MachineSpec spec) {
+        Gf2Matrix matrix = new Gf2Matrix(spec.lightCount(), spec.buttons().length);
+        for (int b = 0; b < spec.buttons().length; b++) {
+            for (int light : spec.buttons()[b]) matrix.set(light, b, true);
+        }
+        long[] presses;
+        try {
+            presses = matrix.minWeightSolution(spec.lights().toLongArray());
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Machine too large for part 1: " + spec, e);
         }
-        return -1;
+        return presses == null ? -1 : Gf2Matrix.weight(presses);
     }
 
-    record Machine(int target, List<Integer> buttons) {
-        static Machine parse(String line) {
-            Matcher m = Pattern.compile("\\[([.#]+)\\]").matcher(line);
-            m.find();
-            String pattern = m.group(1);
-            int target = 0;
-            for (int i = 0; i < pattern.length(); i++)
-                if (pattern.charAt(i) == '#') target |= (1 << i);
-
-            List<Integer> buttons = new ArrayList<>();
-            Matcher bm = Pattern.compile("\\(([0-9,]+)\\)").matcher(line);
-            while (bm.find()) {
-                int mask = 0;
-                for (int idx : InputReader.extractInts(bm.group(1))) mask |= (1 << idx);
-                buttons.add(mask);
+    // ==================== PART 2 ====================
+
+    // Au-delà, l'hypercube des variables libres est laissé au branch-and-bound
+    private static final double MAX_ENUMERATION = 5e7;
+
+    private static long solvePart2(List<MachineSpec> machines) {
+        return machines.stream().map(JoltageMachine::of).mapToLong(Day10::solveJoltage).sum();
+    }
+
+    /**
+     * Nombre minimal de pressions pour atteindre les cibles de joltage, -1 si impossible.
+     */
+    static long solveJoltage(JoltageMachine m) {
+        int nBtn = m.buttons.length, nCtr = m.targets.length;
+
+        // Système A x = b: A[compteur][bouton] = 1 si le bouton incrémente le compteur
+        long[][] a = new long[nCtr][nBtn];
+        for (int j = 0; j < nBtn; j++)
+            for (int i : m.buttons[j]) a[i][j] = 1;
+        long[] b = new long[nCtr];
+        for (int i = 0; i < nCtr; i++) b[i] = m.targets[i];
+
+        // Élimination exacte: x = (particulier + Σ t × noyau) / dénominateur, t = variables libres
+        MathUtils.ExactSolution solution;
+        try {
+            solution = MathUtils.solveExact(a, b);
+        } catch (ArithmeticException e) {
+            return solveWithIlp(a, b);  // Pivots trop grands pour un long
+        }
+        if (solution == null) return -1;
+
+        // Borne par variable libre: un bouton ne peut pas dépasser la cible d'un compteur qu'il incrémente
+        int[] freeCols = solution.freeCols();
+        long[] upperBounds = new long[freeCols.length];
+        for (int k = 0; k < freeCols.length; k++) {
+            long bound = Long.MAX_VALUE;
+            for (int i : m.buttons[freeCols[k]]) bound = Math.min(bound, m.targets[i]);
+            upperBounds[k] = bound == Long.MAX_VALUE ? 0 : bound;  // Bouton sans effet: jamais pressé
+        }
+
+        // Petit espace de recherche: DFS exact sur les entiers; sinon branch-and-bound (ILP)
+        double searchSpace = 1;
+        for (long bound : upperBounds) searchSpace *= bound + 1;
+        if (searchSpace <= MAX_ENUMERATION) {
+            try {
+                return new FreeVariableSearch(solution, upperBounds).run();
+            } catch (ArithmeticException e) {
+                // Numérateurs hors d'un long (grandes cibles ou pivots): branch-and-bound
             }
-            return new Machine(target, buttons);
         }
+        return solveWithIlp(a, b);
     }
 
-    // ==================== PART 2 ====================
+    private static long solveWithIlp(long[][] a, long[] b) {
+        int nCtr = a.length, nBtn = a[0].length;
+        double[][] da = new double[nCtr][nBtn];
+        double[] db = new double[nCtr];
+        for (int i = 0; i < nCtr; i++) {
+            for (int j = 0; j < nBtn; j++) da[i][j] = a[i][j];
+            db[i] = b[i];
+        }
+        double[] c = new double[nBtn];
+        Arrays.fill(c, 1);
 
-    private static long solvePart2(List<String> lines) {
-        return lines.stream().mapToLong(line -> solveJoltage(JoltageMachine.parse(line))).sum();
+        long[] x = MathUtils.minimizeIntegerLP(da, db, c);
+        if (x == null) return -1;
+        long presses = 0;
+        for (long v : x) presses += v;
+        return presses;
     }
 
-    private static long solveJoltage(JoltageMachine m) {
-        int nBtn = m.buttons.size(), nCtr = m.targets.length;
+    /**
+     * Recherche exacte du minimum de Σ x sur les variables libres, en DFS:
+     * - chaque variable libre k parcourt [0, upperBounds[k]],
+     * - les numérateurs des x (x = num / D) sont mis à jour incrémentalement dans un
+     *   seul tableau de travail par sous-arbre,
+     * - élagage dès qu'un x ne peut plus redevenir >= 0 avec les variables restantes,
+     *   ou que la borne inférieure de Σ x atteint le meilleur résultat connu,
+     * - les valeurs de la première variable libre sont réparties sur le ForkJoinPool;
+     *   si un sous-arbre échoue, les autres sont annulés avant de propager l'exception.
+     * Toute l'arithmétique des numérateurs est exacte (ArithmeticException en cas de débordement).
+     */
+    private static final class FreeVariableSearch {
+        private final long denominator;
+        private final long[] particular;
+        private final long[][] nullSpace;
+        private final long[] upperBounds;
+        private final long[] weights;          // Contribution de t_k à Σ num: Σ_j nullSpace[k][j]
+        private final long[][] maxRest;        // maxRest[k][j]: apport positif max des variables k..fin à num[j]
+        private final long[] minRest;          // minRest[k]: apport min des variables k..fin à Σ num
+        private final AtomicLong best = new AtomicLong(Long.MAX_VALUE);
+        private volatile boolean cancelled;    // Un sous-arbre a échoué: les autres s'arrêtent
 
-        // Build augmented matrix [A|b] and do RREF
-        double[][] aug = new double[nCtr][nBtn + 1];
-        for (int j = 0; j < nBtn; j++)
-            for (int i : m.buttons.get(j)) aug[i][j] = 1;
-        for (int i = 0; i < nCtr; i++) aug[i][nBtn] = m.targets[i];
-
-        // RREF with pivot tracking
-        int[] pivotCols = new int[nCtr];
-        int rank = 0;
-        for (int col = 0; col < nBtn && rank < nCtr; col++) {
-            int pivot = -1;
-            for (int row = rank; row < nCtr; row++)
-                if (Math.abs(aug[row][col]) > 1e-9) { pivot = row; break; }
-            if (pivot == -1) continue;
-
-            double[] tmp = aug[rank]; aug[rank] = aug[pivot]; aug[pivot] = tmp;
-            double s = aug[rank][col];
-            for (int j = 0; j <= nBtn; j++) aug[rank][j] /= s;
-            for (int row = 0; row < nCtr; row++)
-                if (row != rank && Math.abs(aug[row][col]) > 1e-9) {
-                    double f = aug[row][col];
-                    for (int j = 0; j <= nBtn; j++) aug[row][j] -= f * aug[rank][j];
+        FreeVariableSearch(MathUtils.ExactSolution solution, long[] upperBounds) {
+            this.denominator = solution.denominator();
+            this.particular = solution.particular();
+            this.nullSpace = solution.nullSpace();
+            this.upperBounds = upperBounds;
+
+            int free = upperBounds.length, n = particular.length;
+            weights = new long[free];
+            maxRest = new long[free + 1][n];
+            minRest = new long[free + 1];
+            for (int k = free - 1; k >= 0; k--) {
+                for (int j = 0; j < n; j++) {
+                    weights[k] = Math.addExact(weights[k], nullSpace[k][j]);
+                    maxRest[k][j] = Math.addExact(maxRest[k + 1][j],
+                        Math.max(0, Math.multiplyExact(nullSpace[k][j], upperBounds[k])));
                 }
-            pivotCols[rank++] = col;
+                minRest[k] = Math.addExact(minRest[k + 1], Math.min(0, Math.multiplyExact(weights[k], upperBounds[k])));
+            }
         }
 
-        // Identify free columns
-        boolean[] isPivot = new boolean[nBtn];
-        for (int i = 0; i < rank; i++) isPivot[pivotCols[i]] = true;
-        int[] freeCols = new int[nBtn - rank];
-        int f = 0;
-        for (int c = 0; c < nBtn; c++) if (!isPivot[c]) freeCols[f++] = c;
+        long run() {
+            long total = 0;
+            for (long v : particular) total = Math.addExact(total, v);
+            long start = total;
 
-        int maxVal = 0;
-        for (int t : m.targets) maxVal = Math.max(maxVal, t);
+            if (upperBounds.length == 0) {
+                search(0, particular.clone(), start);
+            } else {
+                // Un sous-arbre par valeur de la première variable libre
+                List<ForkJoinTask<?>> tasks = new ArrayList<>();
+                for (long t = 0; t <= upperBounds[0]; t++) {
+                    long value = t;
+                    tasks.add(ForkJoinPool.commonPool().submit(() -> {
+                        long[] num = particular.clone();
+                        for (int j = 0; j < num.length; j++) {
+                            num[j] = Math.addExact(num[j], Math.multiplyExact(value, nullSpace[0][j]));
+                        }
+                        search(1, num, Math.addExact(start, Math.multiplyExact(value, weights[0])));
+                    }));
+                }
+                try {
+                    for (ForkJoinTask<?> task : tasks) task.join();
+                } catch (RuntimeException e) {
+                    // Les tâches pas encore démarrées sont annulées, celles en cours voient 'cancelled'
+                    cancelled = true;
+                    tasks.forEach(task -> task.cancel(true));
+                    throw e;
+                }
+            }
+            long result = best.get();
+            return result == Long.MAX_VALUE ? -1 : result;
+        }
 
-        return searchFreeVars(aug, pivotCols, freeCols, rank, nBtn, maxVal, m);
-    }
+        /**
+         * Variables 0..level-1 fixées; num et sum sont les numérateurs courants.
+         */
+        private void search(int level, long[] num, long sum) {
+            if (cancelled) return;
 
-    private static long searchFreeVars(double[][] aug, int[] pivotCols, int[] freeCols,
-                                       int rank, int nBtn, int maxVal, JoltageMachine m) {
-        int numFree = freeCols.length;
-        if (numFree == 0) {
-            long[] x = new long[nBtn];
-            for (int i = 0; i < rank; i++) {
-                x[pivotCols[i]] = Math.round(aug[i][nBtn]);
-                if (x[pivotCols[i]] < 0) return -1;
+            // Élagage: un x restera négatif, ou Σ x ne peut plus battre le meilleur
+            for (int j = 0; j < num.length; j++) {
+                if (Math.addExact(num[j], maxRest[level][j]) < 0) return;
             }
-            return check(x, m) ? sum(x) : -1;
-        }
-
-        long best = Long.MAX_VALUE;
-        int range = numFree == 1 ? maxVal : (numFree == 2 ? Math.min(maxVal, 150) : Math.min(maxVal, 60));
-        int[] freeVals = new int[numFree];
-
-        while (true) {
-            long[] x = new long[nBtn];
-            boolean valid = true;
-            for (int j = 0; j < numFree; j++) x[freeCols[j]] = freeVals[j];
-            for (int i = 0; i < rank && valid; i++) {
-                double val = aug[i][nBtn];
-                for (int j = 0; j < numFree; j++) val -= aug[i][freeCols[j]] * freeVals[j];
-                x[pivotCols[i]] = Math.round(val);
-                if (x[pivotCols[i]] < 0) valid = false;
+            if (ceilDiv(Math.addExact(sum, minRest[level]), denominator) >= best.get()) return;
+
+            if (level == upperBounds.length) {
+                for (long v : num) {
+                    if (v % denominator != 0) return;  // Solution non entière
+                }
+                best.accumulateAndGet(sum / denominator, Math::min);
+                return;
             }
 
-            if (valid && check(x, m)) {
-                long s = sum(x);
-                if (s < best) best = s;
+            long[] direction = nullSpace[level];
+            long steps = 0;
+            for (long t = 0; t <= upperBounds[level]; t++) {
+                // Augmenter t ne peut qu'aggraver: arrêter la boucle
+                if (cannotRecover(level + 1, num, direction)) break;
+                if (weights[level] >= 0 && ceilDiv(Math.addExact(sum, minRest[level + 1]), denominator) >= best.get()) break;
+                search(level + 1, num, sum);
+                // t -> t + 1 en place
+                for (int j = 0; j < num.length; j++) num[j] = Math.addExact(num[j], direction[j]);
+                sum = Math.addExact(sum, weights[level]);
+                steps++;
             }
+            // Restaurer le tableau de travail (exact même si steps × direction déborde: arithmétique modulo 2^64)
+            for (int j = 0; j < num.length; j++) num[j] -= steps * direction[j];
+        }
 
-            int idx = 0;
-            while (idx < numFree) {
-                if (++freeVals[idx] <= range) break;
-                freeVals[idx++] = 0;
+        /**
+         * Vrai si un x est déjà hors d'atteinte et que la direction courante ne le fait pas remonter.
+         */
+        private boolean cannotRecover(int level, long[] num, long[] direction) {
+            for (int j = 0; j < num.length; j++) {
+                if (Math.addExact(num[j], maxRest[level][j]) < 0 && direction[j] <= 0) return true;
             }
-            if (idx == numFree) break;
+            return false;
         }
-        return best == Long.MAX_VALUE ? -1 : best;
-    }
 
-    private static long sum(long[] x) {
-        long s = 0; for (long v : x) s += v; return s;
+        private static long ceilDiv(long a, long b) {
+            return -Math.floorDiv(Math.negateExact(a), b);
+        }
     }
 
-    private static boolean check(long[] x, JoltageMachine m) {
-        long[] counters = new long[m.targets.length];
-        for (int btn = 0; btn < x.length; btn++) {
-            if (x[btn] < 0) return false;
-            for (int idx : m.buttons.get(btn)) counters[idx] += x[btn];
+    /**
+     * @param targets valeur cible de chaque compteur
+     * @param buttons indices des compteurs incrémentés par chaque bouton
+     */
+    record JoltageMachine(int[] targets, int[][] buttons) {
+        static JoltageMachine of(MachineSpec spec) {
+            return new JoltageMachine(spec.joltages(), spec.buttons());
         }
-        for (int i = 0; i < counters.length; i++)
-            if (counters[i] != m.targets[i]) return false;
-        return true;
     }
 
-    record JoltageMachine(int[] targets, List<List<Integer>> buttons) {
-        static JoltageMachine parse(String line) {
-            Matcher m = Pattern.compile("\\{([0-9,]+)\\}").matcher(line);
-            m.find();
-            int[] targets = InputReader.extractInts(m.group(1)).stream()
-                .mapToInt(Integer::intValue).toArray();
-
-            List<List<Integer>> buttons = new ArrayList<>();
-            Matcher bm = Pattern.compile("\\(([0-9,]+)\\)").matcher(line);
-            while (bm.find()) buttons.add(InputReader.extractInts(bm.group(1)));
-            return new JoltageMachine(targets, buttons);
+    // ==================== PARSING ====================
+
+    /**
+     * Description d'une machine: "[.##.] (3) (1,3) (2) {3,5,4,7}".
+     * Tokenizer en une seule passe sur la ligne, sans regex ni String intermédiaire.
+     * Toute ligne mal formée (caractère inattendu, groupe vide, groupe non fermé,
+     * index hors des lumières, nombre de compteurs différent du nombre de lumières)
+     * lève une IllegalArgumentException.
+     *
+     * @param lights lumières à allumer (bit i = lumière i), sans limite de taille
+     */
+    record MachineSpec(int lightCount, BitSet lights, int[][] buttons, int[] joltages) {
+
+        static MachineSpec parse(String line) {
+            int lightCount = -1;
+            BitSet lights = new BitSet();
+            List<int[]> buttons = new ArrayList<>();
+            int[] joltages = null;
+            int[] values = new int[16];
+
+            int i = 0, n = line.length();
+            while (i < n) {
+                char c = line.charAt(i++);
+                if (c == '[') {
+                    lightCount = 0;
+                    for (char d; (d = charAt(line, i++)) != ']'; lightCount++) {
+                        if (d == '#') lights.set(lightCount);
+                        else if (d != '.') throw malformed(line, i - 1);
+                    }
+                } else if (c == '(' || c == '{') {
+                    char close = c == '(' ? ')' : '}';
+                    int count = 0, value = 0, digits = 0;
+                    for (char d; (d = charAt(line, i++)) != close; ) {
+                        if (d == ',') {
+                            if (digits == 0) throw malformed(line, i - 1);  // Valeur vide
+                            if (count == values.length) values = Arrays.copyOf(values, count * 2);
+                            values[count++] = value;
+                            value = 0;
+                            digits = 0;
+                        } else if (d >= '0' && d <= '9') {
+                            if (value > (Integer.MAX_VALUE - 9) / 10) throw malformed(line, i - 1);
+                            value = value * 10 + (d - '0');
+                            digits++;
+                        } else {
+                            throw malformed(line, i - 1);
+                        }
+                    }
+                    if (digits == 0) throw malformed(line, i - 1);  // "()" ou virgule finale
+                    if (count == values.length) values = Arrays.copyOf(values, count * 2);
+                    values[count++] = value;
+                    if (c == '(') buttons.add(Arrays.copyOf(values, count));
+                    else joltages = Arrays.copyOf(values, count);
+                } else if (!Character.isWhitespace(c)) {
+                    throw malformed(line, i - 1);
+                }
+            }
+
+            if (lightCount < 0 || joltages == null) {
+                throw new IllegalArgumentException("Missing light diagram or joltages: " + line);
+            }
+            if (joltages.length != lightCount) {
+                throw new IllegalArgumentException(joltages.length + " joltages for " + lightCount + " lights: " + line);
+            }
+            for (int[] button : buttons) {
+                for (int idx : button) {
+                    if (idx >= lightCount) {
+                        throw new IllegalArgumentException("Button index " + idx + " out of " + lightCount + " lights: " + line);
+                    }
+                }
+            }
+            return new MachineSpec(lightCount, lights, buttons.toArray(int[][]::new), joltages);
+        }
+
+        /**
+         * Machine au format de l'input (pour les messages d'erreur).
+         */
+        @Override
+        public String toString() {
+            StringBuilder line = new StringBuilder("[");
+            for (int i = 0; i < lightCount; i++) line.append(lights.get(i) ? '#' : '.');
+            line.append(']');
+            for (int[] button : buttons) {
+                line.append(' ').append(join(button, '(', ')'));
+            }
+            return line.append(' ').append(join(joltages, '{', '}')).toString();
+        }
+
+        private static String join(int[] values, char open, char close) {
+            StringBuilder sb = new StringBuilder().append(open);
+            for (int k = 0; k < values.length; k++) sb.append(k > 0 ? "," : "").append(values[k]);
+            return sb.append(close).toString();
+        }
+
+        private static char charAt(String line, int i) {
+            if (i >= line.length()) {
+                throw new IllegalArgumentException("Unterminated group: " + line);
+            }
+            return line.charAt(i);
+        }
+
+        private static IllegalArgumentException malformed(String line, int i) {
+            return new IllegalArgumentException("Unexpected '" + line.charAt(i) + "' at " + i + ": " + line);
         }
     }
 }
@@ -0,0 +1,72 @@
+package aoc2025.utils;
+
+import java.util.*;
+
+/**
+ * Propagation de faisceaux qui tombent ligne par ligne (puzzles type Day 7).
+ * Les faisceaux sont un vecteur de comptes long[] par colonne: un seul balayage
+ * O(largeur × hauteur), sans hashing ni récursion. Le nombre de splits (faisceaux
+ * fusionnés) et le nombre de timelines (chemins distincts) sortent de la même boucle.
+ */
+public class BeamPropagator {
+
+    /**
+     * Résultat de la propagation.
+     * @param splits nombre de splitters atteints par au moins un faisceau
+     * @param timelines nombre de chemins distincts du départ jusqu'à la sortie de la grille
+     */
+    public record Result(long splits, long timelines) {}
+
+    /**
+     * Propage le faisceau depuis 'source' vers le bas.
+     * Un faisceau qui entre dans un splitter est divisé en deux faisceaux,
+     * à gauche et à droite du splitter sur la même ligne, qui continuent à descendre.
+     * Un faisceau qui sort par un côté termine sa timeline.
+     */
+    public static Result sweep(List<String> lines, char source, char splitter) {
+        int height = lines.size();
+        int width = lines.stream().mapToInt(String::length).max().orElse(0);
+
+        int startX = -1, startY = -1;
+        for (int y = 0; y < height && startX < 0; y++) {
+            startX = lines.get(y).indexOf(source);
+            startY = y;
+        }
+        if (startX < 0) {
+            throw new IllegalArgumentException("No source '" + source + "' found");
+        }
+
+        long[] current = new long[width];
+        long[] next = new long[width];
+        current[startX] = 1;
+        long splits = 0;
+        long exited = 0;
+
+        for (int y = startY + 1; y < height; y++) {
+            String row = lines.get(y);
+            Arrays.fill(next, 0);
+            for (int x = 0; x < width; x++) {
+                long count = current[x];
+                if (count == 0) continue;
+                if (x < row.length() && row.charAt(x) == splitter) {
+                    splits++;
+                    if (x > 0) next[x - 1] += count; else exited += count;
+                    if (x < width - 1) next[x + 1] += count; else exited += count;
+                } else {
+                    next[x] += count;
+                }
+            }
+            long[] tmp = current;
+            current = next;
+            next = tmp;
+        }
+
+        long timelines = exited;
+        for (long count : current) timelines += count;
+        return new Result(splits, timelines);
+    }
+
+    public static Result sweep(List<String> lines) {
+        return sweep(lines, 'S', '^');
+    }
+}
@@ -0,0 +1,299 @@
+package aoc2025.utils;
+
+import java.util.*;
+
+/**
+ * Grille booléenne compacte: chaque ligne est stockée en mots de 64 bits.
+ * Les comptes de voisins (8-dir) sont calculés 64 cellules à la fois
+ * par additionneurs bit-à-bit, pour les simulations de type automate cellulaire.
+ */
+public class BitGrid {
+    public final int width;
+    public final int height;
+    private final int wordsPerRow;
+    private final long lastWordMask;
+    private final long[] words;
+
+    public BitGrid(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = Math.max(1, (width + 63) >>> 6);
+        int tail = width & 63;
+        this.lastWordMask = tail == 0 ? -1L : (1L << tail) - 1;
+        this.words = new long[wordsPerRow * height];
+    }
+
+    // ========== ACCESS ==========
+
+    public boolean get(int x, int y) {
+        return (words[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    public boolean get(Point2D p) {
+        return get(p.x, p.y);
+    }
+
+    public boolean getOrDefault(int x, int y, boolean defaultValue) {
+        if (!isInBounds(x, y)) return defaultValue;
+        return get(x, y);
+    }
+
+    public void set(int x, int y, boolean value) {
+        int idx = y * wordsPerRow + (x >>> 6);
+        if (value) {
+            words[idx] |= 1L << x;
+        } else {
+            words[idx] &= ~(1L << x);
+        }
+    }
+
+    public void set(Point2D p, boolean value) {
+        set(p.x, p.y, value);
+    }
+
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean isInBounds(Point2D p) {
+        return isInBounds(p.x, p.y);
+    }
+
+    // ========== COUNTING / SEARCH ==========
+
+    /**
+     * Nombre de cellules actives.
+     */
+    public long count() {
+        long count = 0;
+        for (long w : words) count += Long.bitCount(w);
+        return count;
+    }
+
+    /**
+     * Positions de toutes les cellules actives (ordre ligne par ligne).
+     */
+    public List<Point2D> findAll() {
+        List<Point2D> result = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            for (int i = 0; i < wordsPerRow; i++) {
+                long w = words[y * wordsPerRow + i];
+                while (w != 0) {
+                    result.add(new Point2D((i << 6) + Long.numberOfTrailingZeros(w), y));
+                    w &= w - 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    // ========== SIMULATION ==========
+
+    /**
+     * Calcule la génération suivante selon une règle birth/survive (voisinage 8-dir,
+     * hors grille = inactif). Retourne une nouvelle grille.
+     */
+    public BitGrid step(Rule rule) {
+        BitGrid next = new BitGrid(width, height);
+        stepInto(rule, next);
+        return next;
+    }
+
+    /**
+     * Calcule la génération suivante dans 'target' (même dimensions, réutilisable).
+     * @return nombre de cellules qui ont changé d'état
+     */
+    public long stepInto(Rule rule, BitGrid target) {
+        if (target == this || target.width != width || target.height != height) {
+            throw new IllegalArgumentException("Target must be a distinct grid of the same size");
+        }
+        long changed = 0;
+        for (int y = 0; y < height; y++) {
+            changed += stepRows(rule, target, y, y + 1);
+        }
+        return changed;
+    }
+
+    /**
+     * Calcule les lignes [fromY, toY) de la génération suivante dans 'target'.
+     * Les lignes voisines (halo) sont lues depuis cette grille, ce qui permet
+     * de traiter des bandes de lignes indépendamment.
+     * @return nombre de cellules qui ont changé d'état dans la bande
+     */
+    long stepRows(Rule rule, BitGrid target, int fromY, int toY) {
+        long[] inputs = new long[8];
+        long[] planes = new long[4];
+        long changed = 0;
+        for (int y = fromY; y < toY; y++) {
+            int row = y * wordsPerRow;
+            for (int i = 0; i < wordsPerRow; i++) {
+                long cur = words[row + i];
+                neighborCountPlanes(y, i, inputs, planes);
+                long next = rule.apply(cur, planes);
+                if (i == wordsPerRow - 1) next &= lastWordMask;
+                target.words[row + i] = next;
+                changed += Long.bitCount(cur ^ next);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Comptes de voisins des 64 cellules du mot i de la ligne y,
+     * écrits en 4 plans de bits dans 'planes' (bits 0 à 3 du compte, valeurs 0..8).
+     */
+    private void neighborCountPlanes(int y, int i, long[] inputs, long[] planes) {
+        int n = 0;
+        for (int dy = -1; dy <= 1; dy++) {
+            int ny = y + dy;
+            if (ny < 0 || ny >= height) continue;
+            long center = word(ny, i);
+            inputs[n++] = (center << 1) | (word(ny, i - 1) >>> 63);
+            inputs[n++] = (center >>> 1) | (word(ny, i + 1) << 63);
+            if (dy != 0) inputs[n++] = center;
+        }
+
+        // Additionneurs bit-à-bit: chaque entrée incrémente 64 compteurs de 4 bits
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        for (int k = 0; k < n; k++) {
+            long a = inputs[k];
+            long c0 = s0 & a;
+            s0 ^= a;
+            long c1 = s1 & c0;
+            s1 ^= c0;
+            long c2 = s2 & c1;
+            s2 ^= c1;
+            s3 |= c2;
+        }
+        planes[0] = s0;
+        planes[1] = s1;
+        planes[2] = s2;
+        planes[3] = s3;
+    }
+
+    private long word(int y, int i) {
+        if (i < 0 || i >= wordsPerRow) return 0;
+        return words[y * wordsPerRow + i];
+    }
+
+    // ========== RULES ==========
+
+    /**
+     * Règle d'automate cellulaire "life-like".
+     * Bit n de birthMask (resp. surviveMask) = une cellule inactive (resp. active)
+     * avec n voisins actifs est active à la génération suivante.
+     */
+    public record Rule(int birthMask, int surviveMask) {
+
+        public static Rule of(int[] birth, int[] survive) {
+            return new Rule(toMask(birth), toMask(survive));
+        }
+
+        /**
+         * Une cellule active survit si elle a au moins n voisins, aucune naissance.
+         * Ex: Day 4 (un rouleau est retiré s'il a moins de 4 voisins) = survivesWithAtLeast(4)
+         */
+        public static Rule survivesWithAtLeast(int n) {
+            return new Rule(0, 0x1FF & ~((1 << n) - 1));
+        }
+
+        /**
+         * Parse la notation "B3/S23".
+         */
+        public static Rule parse(String notation) {
+            int birth = 0, survive = 0;
+            for (String part : notation.toUpperCase().split("/")) {
+                int mask = 0;
+                for (int k = 1; k < part.length(); k++) {
+                    mask |= 1 << (part.charAt(k) - '0');
+                }
+                if (part.startsWith("B")) birth = mask;
+                else if (part.startsWith("S")) survive = mask;
+                else throw new IllegalArgumentException("Invalid rule: " + notation);
+            }
+            return new Rule(birth, survive);
+        }
+
+        private static int toMask(int[] counts) {
+            int mask = 0;
+            for (int c : counts) mask |= 1 << c;
+            return mask;
+        }
+
+        long apply(long alive, long[] planes) {
+            long born = 0, kept = 0;
+            for (int n = 0; n <= 8; n++) {
+                boolean b = (birthMask & (1 << n)) != 0;
+                boolean s = (surviveMask & (1 << n)) != 0;
+                if (!b && !s) continue;
+                long eq = -1L;
+                for (int bit = 0; bit < 4; bit++) {
+                    eq &= ((n >>> bit) & 1) != 0 ? planes[bit] : ~planes[bit];
+                }
+                if (b) born |= eq;
+                if (s) kept |= eq;
+            }
+            return (alive & kept) | (~alive & born);
+        }
+    }
+
+    // ========== COPY / DISPLAY ==========
+
+    public BitGrid copy() {
+        BitGrid copy = new BitGrid(width, height);
+        System.arraycopy(words, 0, copy.words, 0, words.length);
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BitGrid other)) return false;
+        return width == other.width && height == other.height && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(width, height, Arrays.hashCode(words));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                sb.append(get(x, y) ? '#' : '.');
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    // ========== STATIC FACTORIES ==========
+
+    /**
+     * Parse depuis List<String>: une cellule est active si son caractère vaut 'on'.
+     */
+    public static BitGrid fromLines(List<String> lines, char on) {
+        int height = lines.size();
+        int width = lines.isEmpty() ? 0 : lines.get(0).length();
+        BitGrid grid = new BitGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            String line = lines.get(y);
+            for (int x = 0; x < Math.min(width, line.length()); x++) {
+                if (line.charAt(x) == on) grid.set(x, y, true);
+            }
+        }
+        return grid;
+    }
+
+    public static BitGrid fromGrid(Grid<Character> grid, char on) {
+        BitGrid result = new BitGrid(grid.width, grid.height);
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                if (grid.get(x, y) == on) result.set(x, y, true);
+            }
+        }
+        return result;
+    }
+}
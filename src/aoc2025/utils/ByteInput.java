@@ -0,0 +1,280 @@
+package aoc2025.utils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Lecture d'input au niveau octet, sans String intermédiaire.
+ * Le fichier est mappé en mémoire (FileChannel.map), puis parcouru par offsets:
+ * curseur de lignes, parsing de nombres directement depuis les octets,
+ * et construction de CharGrid sur le buffer mappé. Input ASCII uniquement.
+ */
+public class ByteInput {
+    private final ByteBuffer buffer;
+    private final int size;
+    private int pos;
+    private int parsedEnd;  // Offset juste après le dernier nombre parsé
+
+    private ByteInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.size = buffer.limit();
+    }
+
+    // ========== FACTORIES ==========
+
+    /**
+     * Mappe un fichier en mémoire (lecture seule, limité à 2 Go).
+     */
+    public static ByteInput map(String filename) {
+        try (FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File too large to map: " + filename);
+            }
+            return new ByteInput(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file: " + filename, e);
+        }
+    }
+
+    /**
+     * Mappe le fichier input du jour spécifié.
+     */
+    public static ByteInput mapDay(int day) {
+        return map(String.format("input/input_day%02d.txt", day));
+    }
+
+    public static ByteInput of(byte[] bytes) {
+        return new ByteInput(ByteBuffer.wrap(bytes));
+    }
+
+    public static ByteInput of(ByteBuffer buffer) {
+        return new ByteInput(buffer.slice());
+    }
+
+    // ========== RAW ACCESS ==========
+
+    public int size() {
+        return size;
+    }
+
+    public byte byteAt(int offset) {
+        return buffer.get(offset);
+    }
+
+    public int position() {
+        return pos;
+    }
+
+    public void position(int offset) {
+        this.pos = offset;
+    }
+
+    public boolean hasRemaining() {
+        return pos < size;
+    }
+
+    /**
+     * Décode [start, end) en String (debug / cas rares uniquement).
+     */
+    public String asString(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = start; i < end; i++) bytes[i - start] = buffer.get(i);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    // ========== NUMBERS ==========
+
+    /**
+     * Vrai s'il reste un nombre entre la position courante et la fin du buffer.
+     */
+    public boolean hasNextNumber() {
+        return findNumber(pos, size) >= 0;
+    }
+
+    /**
+     * Parse le prochain nombre signé depuis la position courante (saute tout le reste).
+     */
+    public long nextLong() {
+        int start = findNumber(pos, size);
+        if (start < 0) {
+            throw new NoSuchElementException("No number after offset " + pos);
+        }
+        long value = parseLong(start, size);
+        pos = parsedEnd;
+        return value;
+    }
+
+    public int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    /**
+     * Tous les nombres restants, en tableau primitif.
+     */
+    public long[] readLongs() {
+        long[] values = new long[16];
+        int n = 0;
+        while (hasNextNumber()) {
+            if (n == values.length) values = Arrays.copyOf(values, n * 2);
+            values[n++] = nextLong();
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    /**
+     * Offset du début du prochain nombre dans [from, to) ('-' inclus si suivi d'un chiffre), ou -1.
+     */
+    private int findNumber(int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (isDigit(b)) {
+                return i > from && buffer.get(i - 1) == '-' ? i - 1 : i;
+            }
+        }
+        return -1;
+    }
+
+    private long parseLong(int start, int to) {
+        int i = start;
+        boolean negative = buffer.get(i) == '-';
+        if (negative) i++;
+        int digitsStart = i;
+        while (i < to && isDigit(buffer.get(i))) i++;
+        parsedEnd = i;
+        if (i - digitsStart > 18) {
+            // Débordement possible: laisser Long.parseLong valider (comme InputReader)
+            byte[] text = new byte[i - start];
+            buffer.get(start, text);
+            return Long.parseLong(new String(text, StandardCharsets.US_ASCII));
+        }
+        long value = 0;
+        for (int j = digitsStart; j < i; j++) {
+            value = value * 10 + (buffer.get(j) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    // ========== LINES ==========
+
+    /**
+     * Curseur de lignes sur tout le buffer (indépendant de la position courante).
+     */
+    public LineCursor lines() {
+        return new LineCursor();
+    }
+
+    /**
+     * Nombre de lignes (la dernière ligne peut ne pas se terminer par '\n').
+     */
+    public int lineCount() {
+        int count = 0;
+        LineCursor cursor = lines();
+        while (cursor.next()) count++;
+        return count;
+    }
+
+    /**
+     * Curseur sur les lignes: bornes [start, end) sans '\r' ni '\n',
+     * et parsing de nombres limité à la ligne courante.
+     */
+    public class LineCursor {
+        private int next;
+        private int start = -1;
+        private int end = -1;
+        private int cursor;
+
+        /**
+         * Avance à la ligne suivante. Retourne false en fin de buffer.
+         */
+        public boolean next() {
+            if (next >= size) return false;
+            start = next;
+            int i = start;
+            while (i < size && buffer.get(i) != '\n') i++;
+            next = i + 1;
+            end = i > start && buffer.get(i - 1) == '\r' ? i - 1 : i;
+            cursor = start;
+            return true;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        public int length() {
+            return end - start;
+        }
+
+        public boolean isEmpty() {
+            return end == start;
+        }
+
+        public char charAt(int index) {
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        public boolean hasNextNumber() {
+            return findNumber(cursor, end) >= 0;
+        }
+
+        public long nextLong() {
+            int numberStart = findNumber(cursor, end);
+            if (numberStart < 0) {
+                throw new NoSuchElementException("No number left in line at offset " + start);
+            }
+            long value = parseLong(numberStart, end);
+            cursor = parsedEnd;
+            return value;
+        }
+
+        public int nextInt() {
+            return Math.toIntExact(nextLong());
+        }
+
+        @Override
+        public String toString() {
+            return asString(start, end);
+        }
+    }
+
+    // ========== GRID ==========
+
+    /**
+     * Construit une CharGrid sur le bloc de lignes qui suit la position courante
+     * (lignes vides initiales ignorées) jusqu'à la ligne vide suivante ou la fin,
+     * sans copier les octets. La position courante passe après le bloc.
+     */
+    public CharGrid toCharGrid() {
+        int[] starts = new int[16];
+        int[] lengths = new int[16];
+        int rows = 0;
+        LineCursor cursor = lines();
+        cursor.next = pos;
+        boolean hasLine = cursor.next();
+        while (hasLine && cursor.isEmpty()) hasLine = cursor.next();
+        for (; hasLine && !cursor.isEmpty(); hasLine = cursor.next()) {
+            if (rows == starts.length) {
+                starts = Arrays.copyOf(starts, rows * 2);
+                lengths = Arrays.copyOf(lengths, rows * 2);
+            }
+            starts[rows] = cursor.start();
+            lengths[rows] = cursor.length();
+            rows++;
+        }
+        pos = Math.min(cursor.next, size);
+        return new CharGrid(buffer, Arrays.copyOf(starts, rows), Arrays.copyOf(lengths, rows));
+    }
+}
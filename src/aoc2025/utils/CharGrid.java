@@ -0,0 +1,139 @@
+package aoc2025.utils;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+
+/**
+ * Grille de caractères ASCII en lecture seule, vue directe sur un buffer d'octets
+ * (typiquement un fichier mappé par ByteInput). Aucune String ni copie:
+ * seules les bornes de chaque ligne sont mémorisées.
+ * Les lignes plus courtes que la grille sont complétées par des espaces.
+ */
+public class CharGrid {
+    private final ByteBuffer buffer;
+    private final int[] rowStart;
+    private final int[] rowLength;
+    public final int width;
+    public final int height;
+
+    CharGrid(ByteBuffer buffer, int[] rowStart, int[] rowLength) {
+        this.buffer = buffer;
+        this.rowStart = rowStart;
+        this.rowLength = rowLength;
+        this.width = Arrays.stream(rowLength).max().orElse(0);
+        this.height = rowStart.length;
+    }
+
+    // ========== ACCESS ==========
+
+    public char get(int x, int y) {
+        if (x >= rowLength[y]) return ' ';
+        return (char) (buffer.get(rowStart[y] + x) & 0xFF);
+    }
+
+    /**
+     * Longueur réelle de la ligne y (sans padding).
+     */
+    public int rowLength(int y) {
+        return rowLength[y];
+    }
+
+    public char get(Point2D p) {
+        return get(p.x, p.y);
+    }
+
+    public char getOrDefault(int x, int y, char defaultValue) {
+        if (!isInBounds(x, y)) return defaultValue;
+        return get(x, y);
+    }
+
+    public char getOrDefault(Point2D p, char defaultValue) {
+        return getOrDefault(p.x, p.y, defaultValue);
+    }
+
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean isInBounds(Point2D p) {
+        return isInBounds(p.x, p.y);
+    }
+
+    // ========== SEARCH ==========
+
+    public Optional<Point2D> find(char value) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (get(x, y) == value) return Optional.of(new Point2D(x, y));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<Point2D> findAll(char value) {
+        List<Point2D> result = new ArrayList<>();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (get(x, y) == value) result.add(new Point2D(x, y));
+            }
+        }
+        return result;
+    }
+
+    public long count(char value) {
+        long count = 0;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (get(x, y) == value) count++;
+            }
+        }
+        return count;
+    }
+
+    // ========== CONVERSION ==========
+
+    /**
+     * Copie modifiable (même format que InputReader.parseCharGrid).
+     */
+    public char[][] toCharArray() {
+        char[][] result = new char[height][width];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                result[y][x] = get(x, y);
+            }
+        }
+        return result;
+    }
+
+    public Grid<Character> toGrid() {
+        Grid<Character> grid = new Grid<>(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                grid.set(x, y, get(x, y));
+            }
+        }
+        return grid;
+    }
+
+    public BitGrid toBitGrid(char on) {
+        BitGrid grid = new BitGrid(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (get(x, y) == on) grid.set(x, y, true);
+            }
+        }
+        return grid;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                sb.append(get(x, y));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
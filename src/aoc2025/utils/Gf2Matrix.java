@@ -0,0 +1,295 @@
+package aoc2025.utils;
+
+import java.util.*;
+
+/**
+ * Matrice sur GF(2) (bits, addition = XOR), lignes stockées en bitsets long[].
+ * Pour les puzzles "interrupteurs": chaque colonne = un bouton, chaque ligne = une lumière,
+ * A x = b où x indique les boutons pressés (un nombre pair de pressions s'annule).
+ * - élimination de Gauss-Jordan, rang, solution particulière + base du noyau
+ * - solution de poids minimal (moins de boutons pressés): parcours du noyau en code de Gray
+ *   si sa dimension est petite, sinon meet-in-the-middle sur les colonnes (2^(n/2)),
+ *   tant que la table d'une moitié reste bornée (MAX_MEET_IN_THE_MIDDLE_BITS)
+ * Les vecteurs (solutions, noyau, second membre) sont aussi des bitsets long[].
+ */
+public class Gf2Matrix {
+    private static final int MAX_ENUMERATION_BITS = 30;         // Au plus 2^30 combinaisons énumérées
+    private static final int MAX_MEET_IN_THE_MIDDLE_BITS = 20;  // Table d'une moitié: au plus 2^20 entrées
+
+    private final int rows;
+    private final int cols;
+    private final long[][] data;  // data[r]: bitset des colonnes de la ligne r
+
+    public Gf2Matrix(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.data = new long[rows][words(cols)];
+    }
+
+    // ========== ACCESS ==========
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public boolean get(int r, int c) {
+        return (data[r][c >>> 6] >>> c & 1) != 0;
+    }
+
+    public void set(int r, int c, boolean value) {
+        if (value) data[r][c >>> 6] |= 1L << c;
+        else data[r][c >>> 6] &= ~(1L << c);
+    }
+
+    public Gf2Matrix copy() {
+        Gf2Matrix copy = new Gf2Matrix(rows, cols);
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(data[r], 0, copy.data[r], 0, data[r].length);
+        }
+        return copy;
+    }
+
+    // ========== ELIMINATION ==========
+
+    /**
+     * Rang de la matrice (la matrice n'est pas modifiée).
+     */
+    public int rank() {
+        long[][] work = new long[rows][];
+        for (int r = 0; r < rows; r++) work[r] = data[r].clone();
+        return eliminate(work, cols, new int[Math.min(rows, cols)]);
+    }
+
+    /**
+     * Solution générale de A x = rhs: x = particular ⊕ (combinaison XOR de nullSpace).
+     * particular est nul sur les colonnes libres; nullSpace[k] vaut 1 sur la k-ième colonne libre.
+     */
+    public record Solution(long[] particular, List<long[]> nullSpace) {
+        public int nullity() {
+            return nullSpace.size();
+        }
+    }
+
+    /**
+     * Résout A x = rhs (rhs: bitset sur les lignes).
+     * @return la solution générale, ou null si le système est incompatible
+     */
+    public Solution solve(long[] rhs) {
+        // Matrice augmentée: bit 'cols' = second membre
+        long[][] work = new long[rows][words(cols + 1)];
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(data[r], 0, work[r], 0, data[r].length);
+            if (testBit(rhs, r)) work[r][cols >>> 6] |= 1L << cols;
+        }
+
+        int[] pivotCols = new int[Math.min(rows, cols)];
+        int rank = eliminate(work, cols, pivotCols);
+        for (int r = rank; r < rows; r++) {
+            if (testBit(work[r], cols)) return null;  // 0 = 1
+        }
+
+        long[] particular = new long[words(cols)];
+        boolean[] isPivot = new boolean[cols];
+        for (int i = 0; i < rank; i++) {
+            isPivot[pivotCols[i]] = true;
+            if (testBit(work[i], cols)) setBit(particular, pivotCols[i]);
+        }
+
+        // Une variable libre à 1, les pivots en découlent
+        List<long[]> nullSpace = new ArrayList<>();
+        for (int free = 0; free < cols; free++) {
+            if (isPivot[free]) continue;
+            long[] v = new long[words(cols)];
+            setBit(v, free);
+            for (int i = 0; i < rank; i++) {
+                if (testBit(work[i], free)) setBit(v, pivotCols[i]);
+            }
+            nullSpace.add(v);
+        }
+        return new Solution(particular, nullSpace);
+    }
+
+    /**
+     * Gauss-Jordan en place sur les colonnes [0, width): forme échelonnée réduite.
+     * @return le rang; pivotCols[i] = colonne du pivot de la ligne i
+     */
+    private static int eliminate(long[][] work, int width, int[] pivotCols) {
+        int rank = 0;
+        for (int col = 0; col < width && rank < work.length; col++) {
+            int pivot = -1;
+            for (int r = rank; r < work.length; r++) {
+                if (testBit(work[r], col)) {
+                    pivot = r;
+                    break;
+                }
+            }
+            if (pivot == -1) continue;
+
+            long[] tmp = work[rank];
+            work[rank] = work[pivot];
+            work[pivot] = tmp;
+            for (int r = 0; r < work.length; r++) {
+                if (r != rank && testBit(work[r], col)) xorInto(work[r], work[rank]);
+            }
+            pivotCols[rank++] = col;
+        }
+        return rank;
+    }
+
+    // ========== MINIMUM WEIGHT ==========
+
+    /**
+     * Solution de A x = rhs avec le moins de bits à 1, ou null si aucune.
+     * Noyau de dimension k: parcours des 2^k combinaisons en code de Gray (un XOR par pas).
+     * Si 2^k dépasse 2^(n/2): meet-in-the-middle sur les colonnes, sauf si la table d'une
+     * moitié dépasserait 2^MAX_MEET_IN_THE_MIDDLE_BITS entrées (retour au parcours du noyau).
+     * @throws IllegalStateException si le noyau reste trop grand pour être énuméré
+     */
+    public long[] minWeightSolution(long[] rhs) {
+        Solution solution = solve(rhs);
+        if (solution == null) return null;
+
+        int nullity = solution.nullity();
+        int half = (cols + 1) / 2;
+        if (nullity <= half || half > MAX_MEET_IN_THE_MIDDLE_BITS) {
+            return minWeightByNullSpace(solution);
+        }
+        return minWeightByMeetInTheMiddle(rhs);
+    }
+
+    private long[] minWeightByNullSpace(Solution solution) {
+        List<long[]> basis = solution.nullSpace();
+        checkEnumeration(basis.size());
+
+        long[] current = solution.particular().clone();
+        long[] best = current.clone();
+        int bestWeight = weight(current);
+        for (long i = 1; i < 1L << basis.size(); i++) {
+            // Code de Gray: une seule combinaison change entre deux pas
+            xorInto(current, basis.get(Long.numberOfTrailingZeros(i)));
+            int w = weight(current);
+            if (w < bestWeight) {
+                bestWeight = w;
+                System.arraycopy(current, 0, best, 0, current.length);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Colonnes coupées en deux moitiés: pour chaque sous-ensemble de la première,
+     * son syndrome (A × sous-ensemble) est mémorisé avec le plus petit poids; chaque
+     * sous-ensemble de la seconde cherche le syndrome complémentaire rhs ⊕ syndrome.
+     */
+    private long[] minWeightByMeetInTheMiddle(long[] rhs) {
+        int half = cols / 2;
+        int rest = cols - half;
+        long[][] columns = columnVectors();
+
+        // Première moitié: syndrome -> sous-ensemble de poids minimal
+        Map<BitSet, Long> firstHalf = new HashMap<>();
+        long[] syndrome = new long[words(rows)];
+        long subset = 0;
+        firstHalf.put(BitSet.valueOf(syndrome), 0L);
+        for (long i = 1; i < 1L << half; i++) {
+            int bit = Long.numberOfTrailingZeros(i);
+            xorInto(syndrome, columns[bit]);
+            subset ^= 1L << bit;
+            firstHalf.merge(BitSet.valueOf(syndrome), subset,
+                (old, candidate) -> Long.bitCount(candidate) < Long.bitCount(old) ? candidate : old);
+        }
+
+        // Seconde moitié: compléter vers rhs
+        long[] target = new long[words(rows)];
+        System.arraycopy(rhs, 0, target, 0, Math.min(rhs.length, target.length));
+        long bestFirst = -1, bestSecond = -1;
+        int bestWeight = Integer.MAX_VALUE;
+        subset = 0;
+        for (long i = 0; i < 1L << rest; i++) {
+            if (i > 0) {
+                int bit = Long.numberOfTrailingZeros(i);
+                xorInto(target, columns[half + bit]);
+                subset ^= 1L << bit;
+            }
+            Long first = firstHalf.get(BitSet.valueOf(target));
+            if (first != null) {
+                int w = Long.bitCount(first) + Long.bitCount(subset);
+                if (w < bestWeight) {
+                    bestWeight = w;
+                    bestFirst = first;
+                    bestSecond = subset;
+                }
+            }
+        }
+        if (bestFirst < 0) return null;
+
+        long[] x = new long[words(cols)];
+        for (int c = 0; c < half; c++) {
+            if ((bestFirst >>> c & 1) != 0) setBit(x, c);
+        }
+        for (int c = 0; c < rest; c++) {
+            if ((bestSecond >>> c & 1) != 0) setBit(x, half + c);
+        }
+        return x;
+    }
+
+    /**
+     * Colonnes de la matrice en bitsets sur les lignes.
+     */
+    private long[][] columnVectors() {
+        long[][] columns = new long[cols][words(rows)];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                if (get(r, c)) setBit(columns[c], r);
+            }
+        }
+        return columns;
+    }
+
+    private static void checkEnumeration(int bits) {
+        if (bits > MAX_ENUMERATION_BITS) {
+            throw new IllegalStateException("Search space too large: 2^" + bits);
+        }
+    }
+
+    // ========== BITSETS ==========
+
+    /**
+     * Nombre de bits à 1 d'un vecteur (nombre de boutons pressés).
+     */
+    public static int weight(long[] v) {
+        int w = 0;
+        for (long word : v) w += Long.bitCount(word);
+        return w;
+    }
+
+    private static int words(int bits) {
+        return Math.max(1, (bits + 63) >>> 6);
+    }
+
+    private static boolean testBit(long[] v, int bit) {
+        return (bit >>> 6) < v.length && (v[bit >>> 6] >>> bit & 1) != 0;
+    }
+
+    private static void setBit(long[] v, int bit) {
+        v[bit >>> 6] |= 1L << bit;
+    }
+
+    private static void xorInto(long[] target, long[] source) {
+        for (int i = 0; i < source.length; i++) target[i] ^= source[i];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) sb.append(get(r, c) ? '1' : '0');
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
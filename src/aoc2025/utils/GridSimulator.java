@@ -0,0 +1,139 @@
+package aoc2025.utils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+
+/**
+ * Simulation de grille génération par génération avec double buffer.
+ * La génération N+1 est calculée depuis la génération N (lecture seule) par bandes
+ * horizontales réparties sur un ForkJoinPool, puis les buffers sont échangés (pas de copie).
+ * Chaque bande lit ses lignes de halo (y-1 et y+1) dans le buffer courant,
+ * donc les bandes sont indépendantes.
+ */
+public class GridSimulator<T> {
+
+    private static final int MIN_BAND_HEIGHT = 8;
+
+    /**
+     * Règle locale: nouvelle valeur de la cellule (x, y) à partir de la génération courante.
+     */
+    @FunctionalInterface
+    public interface CellRule<T> {
+        T next(Grid<T> current, int x, int y);
+    }
+
+    private final CellRule<T> rule;
+    private final ForkJoinPool pool;
+    private Grid<T> current;
+    private Grid<T> next;
+    private long generation;
+
+    public GridSimulator(Grid<T> initial, CellRule<T> rule) {
+        this(initial, rule, ForkJoinPool.commonPool());
+    }
+
+    public GridSimulator(Grid<T> initial, CellRule<T> rule, ForkJoinPool pool) {
+        this.rule = rule;
+        this.pool = pool;
+        this.current = initial.copy();
+        this.next = new Grid<>(initial.width, initial.height);
+    }
+
+    /**
+     * Grille de la génération courante (ne pas modifier pendant un step).
+     */
+    public Grid<T> grid() {
+        return current;
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Avance d'une génération.
+     * @return cellules modifiées par ce step (ordre ligne par ligne), vide si stable
+     */
+    public List<Point2D> step() {
+        Grid<T> from = current;
+        Grid<T> to = next;
+        List<List<Point2D>> bandChanges = runBands(pool, from.height, (fromY, toY) -> {
+            List<Point2D> changed = new ArrayList<>();
+            for (int y = fromY; y < toY; y++) {
+                for (int x = 0; x < from.width; x++) {
+                    T value = rule.next(from, x, y);
+                    to.set(x, y, value);
+                    if (!Objects.equals(value, from.get(x, y))) {
+                        changed.add(new Point2D(x, y));
+                    }
+                }
+            }
+            return changed;
+        });
+
+        current = to;
+        next = from;
+        generation++;
+
+        List<Point2D> changed = new ArrayList<>();
+        bandChanges.forEach(changed::addAll);
+        return changed;
+    }
+
+    /**
+     * Avance jusqu'à ce qu'un step ne modifie plus aucune cellule.
+     * @return nombre total de changements de cellules
+     */
+    public long runUntilStable() {
+        long total = 0;
+        List<Point2D> changed;
+        while (!(changed = step()).isEmpty()) {
+            total += changed.size();
+        }
+        return total;
+    }
+
+    // ========== BITGRID ==========
+
+    /**
+     * Step parallèle par bandes pour BitGrid: écrit la génération suivante dans 'target'.
+     * @return nombre de cellules qui ont changé d'état
+     */
+    public static long step(BitGrid current, BitGrid.Rule rule, BitGrid target, ForkJoinPool pool) {
+        if (target == current || target.width != current.width || target.height != current.height) {
+            throw new IllegalArgumentException("Target must be a distinct grid of the same size");
+        }
+        return runBands(pool, current.height, (fromY, toY) -> current.stepRows(rule, target, fromY, toY))
+            .stream()
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+
+    public static long step(BitGrid current, BitGrid.Rule rule, BitGrid target) {
+        return step(current, rule, target, ForkJoinPool.commonPool());
+    }
+
+    // ========== BANDS ==========
+
+    /**
+     * Découpe [0, height) en bandes et exécute 'band' sur chacune dans le pool.
+     * Les résultats sont retournés dans l'ordre des bandes.
+     */
+    private static <R> List<R> runBands(ForkJoinPool pool, int height,
+                                        BiFunction<Integer, Integer, R> band) {
+        int bands = Math.max(1, Math.min(pool.getParallelism() * 4, height / MIN_BAND_HEIGHT));
+        List<ForkJoinTask<R>> tasks = new ArrayList<>(bands);
+        for (int b = 0; b < bands; b++) {
+            int fromY = (int) ((long) height * b / bands);
+            int toY = (int) ((long) height * (b + 1) / bands);
+            tasks.add(pool.submit(() -> band.apply(fromY, toY)));
+        }
+        List<R> results = new ArrayList<>(bands);
+        for (ForkJoinTask<R> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+}
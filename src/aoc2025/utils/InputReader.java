@@ -1,8 +1,13 @@
 package aoc2025.utils;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.*;
 import java.util.stream.*;
 
@@ -11,6 +16,20 @@ import java.util.stream.*;
  */
 public class InputReader {
 
+    // Taille des chunks pour le parsing parallèle
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 64 << 20;
+
+    // Patterns compilés une seule fois, partagés entre les appels (thread-safe)
+    private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Pattern compilé depuis le cache.
+     */
+    public static Pattern pattern(String regex) {
+        return PATTERN_CACHE.computeIfAbsent(regex, Pattern::compile);
+    }
+
     // ========== FILE READING ==========
 
     /**
@@ -79,11 +98,81 @@ public class InputReader {
         return groups;
     }
 
+    /**
+     * Découpe l'input en blocs séparés par des lignes vides, en une passe et sans copie:
+     * chaque bloc est une plage d'indices [start, end) sur la liste d'origine.
+     */
+    public static List<Block> blocks(List<String> lines) {
+        List<Block> blocks = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).isEmpty()) {
+                if (start >= 0) {
+                    blocks.add(new Block(lines, start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            blocks.add(new Block(lines, start, lines.size()));
+        }
+        return blocks;
+    }
+
+    /**
+     * Vue sur un bloc de lignes [start, end) avec parsers typés.
+     */
+    public record Block(List<String> source, int start, int end) {
+
+        /**
+         * Lignes du bloc (vue sur la liste d'origine, pas de copie).
+         */
+        public List<String> lines() {
+            return source.subList(start, end);
+        }
+
+        public String line(int index) {
+            return source.get(start + index);
+        }
+
+        public int size() {
+            return end - start;
+        }
+
+        /**
+         * Une Range "a-b" par ligne.
+         */
+        public List<Range> ranges() {
+            List<Range> ranges = new ArrayList<>(size());
+            for (int i = start; i < end; i++) {
+                ranges.add(Range.parse(source.get(i)));
+            }
+            return ranges;
+        }
+
+        /**
+         * Tous les nombres signés du bloc, dans l'ordre.
+         */
+        public long[] longs() {
+            LongList sink = new LongList(size());
+            for (int i = start; i < end; i++) {
+                extractLongs(source.get(i), sink);
+            }
+            return sink.toArray();
+        }
+
+        public Grid<Character> grid() {
+            return Grid.fromLines(lines());
+        }
+    }
+
     /**
      * Sépare le contenu par une regex.
      */
     public static List<String> splitContent(String content, String regex) {
-        return Arrays.asList(content.split(regex));
+        return Arrays.asList(pattern(regex).split(content));
     }
 
     // ========== PARSING NUMBERS ==========
@@ -93,9 +182,8 @@ public class InputReader {
      */
     public static List<Integer> extractInts(String line) {
         List<Integer> numbers = new ArrayList<>();
-        Matcher m = Pattern.compile("-?\\d+").matcher(line);
-        while (m.find()) {
-            numbers.add(Integer.parseInt(m.group()));
+        for (int n : extractIntArray(line)) {
+            numbers.add(n);
         }
         return numbers;
     }
@@ -105,9 +193,8 @@ public class InputReader {
      */
     public static List<Long> extractLongs(String line) {
         List<Long> numbers = new ArrayList<>();
-        Matcher m = Pattern.compile("-?\\d+").matcher(line);
-        while (m.find()) {
-            numbers.add(Long.parseLong(m.group()));
+        for (long n : extractLongArray(line)) {
+            numbers.add(n);
         }
         return numbers;
     }
@@ -116,18 +203,89 @@ public class InputReader {
      * Extrait le premier entier d'une ligne.
      */
     public static int extractInt(String line) {
-        Matcher m = Pattern.compile("-?\\d+").matcher(line);
-        if (m.find()) {
-            return Integer.parseInt(m.group());
+        int start = nextNumberStart(line, 0);
+        if (start >= 0) {
+            return Math.toIntExact(parseNumber(line, start, numberEnd(line, start)));
         }
         throw new IllegalArgumentException("No integer found in: " + line);
     }
 
+    /**
+     * Extrait tous les entiers d'une ligne en tableau primitif (sans regex ni boxing).
+     */
+    public static int[] extractIntArray(CharSequence line) {
+        LongList sink = new LongList();
+        extractLongs(line, sink);
+        return sink.toIntArray();
+    }
+
+    /**
+     * Extrait tous les longs d'une ligne en tableau primitif (sans regex ni boxing).
+     */
+    public static long[] extractLongArray(CharSequence line) {
+        LongList sink = new LongList();
+        extractLongs(line, sink);
+        return sink.toArray();
+    }
+
+    /**
+     * Ajoute tous les nombres signés de la ligne au sink (réutilisable entre les lignes).
+     * Même découpage que la regex "-?\\d+", en une seule passe.
+     * @return nombre de valeurs ajoutées
+     */
+    public static int extractLongs(CharSequence line, LongList sink) {
+        int count = 0;
+        int start = nextNumberStart(line, 0);
+        while (start >= 0) {
+            int end = numberEnd(line, start);
+            sink.add(parseNumber(line, start, end));
+            count++;
+            start = nextNumberStart(line, end);
+        }
+        return count;
+    }
+
+    /**
+     * Début du prochain nombre à partir de 'from' ('-' inclus s'il précède un chiffre), ou -1.
+     */
+    private static int nextNumberStart(CharSequence line, int from) {
+        for (int i = from; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isDigit(c)) return i;
+            if (c == '-' && i + 1 < line.length() && isDigit(line.charAt(i + 1))) return i;
+        }
+        return -1;
+    }
+
+    private static int numberEnd(CharSequence line, int start) {
+        int i = line.charAt(start) == '-' ? start + 1 : start;
+        while (i < line.length() && isDigit(line.charAt(i))) i++;
+        return i;
+    }
+
+    private static long parseNumber(CharSequence line, int start, int end) {
+        boolean negative = line.charAt(start) == '-';
+        int i = negative ? start + 1 : start;
+        if (end - i > 18) {
+            // Débordement possible: laisser Long.parseLong valider
+            return Long.parseLong(line.subSequence(start, end).toString());
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            value = value * 10 + (line.charAt(i) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * Parse une ligne d'entiers séparés par un délimiteur.
      */
     public static List<Integer> parseInts(String line, String delimiter) {
-        return Arrays.stream(line.split(delimiter))
+        return Arrays.stream(pattern(delimiter).split(line))
             .map(String::trim)
             .filter(s -> !s.isEmpty())
             .map(Integer::parseInt)
@@ -138,7 +296,7 @@ public class InputReader {
      * Parse une ligne de longs séparés par un délimiteur.
      */
     public static List<Long> parseLongs(String line, String delimiter) {
-        return Arrays.stream(line.split(delimiter))
+        return Arrays.stream(pattern(delimiter).split(line))
             .map(String::trim)
             .filter(s -> !s.isEmpty())
             .map(Long::parseLong)
@@ -160,7 +318,7 @@ public class InputReader {
      * Extrait des groupes via une regex.
      */
     public static Optional<List<String>> match(String line, String regex) {
-        Matcher m = Pattern.compile(regex).matcher(line);
+        Matcher m = pattern(regex).matcher(line);
         if (m.matches()) {
             List<String> groups = new ArrayList<>();
             for (int i = 1; i <= m.groupCount(); i++) {
@@ -176,7 +334,7 @@ public class InputReader {
      */
     public static List<String> findAll(String line, String regex) {
         List<String> matches = new ArrayList<>();
-        Matcher m = Pattern.compile(regex).matcher(line);
+        Matcher m = pattern(regex).matcher(line);
         while (m.find()) {
             matches.add(m.group());
         }
@@ -188,7 +346,7 @@ public class InputReader {
      */
     public static List<List<String>> findAllGroups(String line, String regex) {
         List<List<String>> results = new ArrayList<>();
-        Matcher m = Pattern.compile(regex).matcher(line);
+        Matcher m = pattern(regex).matcher(line);
         while (m.find()) {
             List<String> groups = new ArrayList<>();
             for (int i = 1; i <= m.groupCount(); i++) {
@@ -246,7 +404,7 @@ public class InputReader {
      */
     public static List<Point2D> parsePoints(List<String> lines, String regex) {
         List<Point2D> points = new ArrayList<>();
-        Pattern p = Pattern.compile(regex);
+        Pattern p = pattern(regex);
         for (String line : lines) {
             Matcher m = p.matcher(line);
             if (m.find()) {
@@ -258,4 +416,190 @@ public class InputReader {
         }
         return points;
     }
+
+    // ========== PARALLEL PARSING ==========
+
+    /**
+     * Parser d'une ligne (bornes sans '\r' ni '\n') vers des valeurs primitives.
+     */
+    @FunctionalInterface
+    public interface LineParser {
+        void parse(ByteInput.LineCursor line, LongList out);
+
+        /**
+         * Tous les nombres signés de chaque ligne.
+         */
+        LineParser NUMBERS = (line, out) -> {
+            while (line.hasNextNumber()) out.add(line.nextLong());
+        };
+    }
+
+    /**
+     * Parse un fichier en parallèle: le fichier est découpé en chunks alignés sur les fins
+     * de ligne, chaque chunk est mappé en mémoire et parsé sur un worker du ForkJoinPool,
+     * puis les valeurs sont concaténées dans l'ordre du fichier.
+     * Ex: lignes "x,y,z" avec LineParser.NUMBERS -> [x0, y0, z0, x1, y1, z1, ...]
+     */
+    public static long[] parallelParse(String filename, LineParser parser) {
+        try (FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+            long[] bounds = chunkBounds(channel);
+            ForkJoinPool pool = ForkJoinPool.commonPool();
+
+            List<ForkJoinTask<LongList>> tasks = new ArrayList<>();
+            for (int k = 0; k + 1 < bounds.length; k++) {
+                long start = bounds[k];
+                long length = bounds[k + 1] - start;
+                tasks.add(pool.submit(() -> {
+                    ByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                    LongList out = new LongList();
+                    ByteInput.LineCursor line = ByteInput.of(chunk).lines();
+                    while (line.next()) {
+                        parser.parse(line, out);
+                    }
+                    return out;
+                }));
+            }
+
+            LongList result = new LongList();
+            for (ForkJoinTask<LongList> task : tasks) {
+                result.addAll(task.join());
+            }
+            return result.toArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file: " + filename, e);
+        }
+    }
+
+    /**
+     * Limites [b0=0, b1, ..., bn=size] des chunks, chaque bi (sauf la fin) juste après un '\n'.
+     */
+    private static long[] chunkBounds(FileChannel channel) throws IOException {
+        long size = channel.size();
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        long byParallelism = Math.min(parallelism * 4L, (size + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+        long bySize = (size + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE;
+        int chunks = (int) Math.max(1, Math.max(byParallelism, bySize));
+
+        LongList bounds = new LongList();
+        bounds.add(0);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        for (int k = 1; k < chunks; k++) {
+            long pos = Math.max(size / chunks * k, bounds.get(bounds.size() - 1));
+            long next = nextLineStart(channel, pos, probe);
+            if (next >= size) break;
+            if (next > bounds.get(bounds.size() - 1)) bounds.add(next);
+        }
+        bounds.add(size);
+        return bounds.toArray();
+    }
+
+    /**
+     * Offset juste après le premier '\n' à partir de pos (ou la taille du fichier).
+     */
+    private static long nextLineStart(FileChannel channel, long pos, ByteBuffer probe) throws IOException {
+        while (true) {
+            probe.clear();
+            int read = channel.read(probe, pos);
+            if (read <= 0) return channel.size();
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') return pos + i + 1;
+            }
+            pos += read;
+        }
+    }
+
+    // ========== BINARY SNAPSHOTS ==========
+
+    /**
+     * Tous les nombres du fichier, via un snapshot binaire (input_dayXX.longs.snap).
+     * Le snapshot est (re)généré si absent ou si l'input a changé (checksum).
+     */
+    public static long[] snapshotLongs(String filename) {
+        ByteBuffer source = mapFile(filename);
+        long checksum = Snapshot.checksum(source);
+        Path file = Snapshot.pathFor(filename, "longs");
+        Optional<Snapshot> snapshot = Snapshot.open(file, checksum, source.limit())
+            .filter(s -> s.hasSection(0, Snapshot.TYPE_LONGS));
+        if (snapshot.isPresent()) {
+            return snapshot.get().longs(0);
+        }
+
+        long[] values = ByteInput.of(source).readLongs();
+        new Snapshot.Writer().addLongs(values).write(file, checksum, source.limit());
+        return values;
+    }
+
+    /**
+     * Coordonnées entières à 'dims' dimensions, une par ligne, à plat: [x0, y0, (z0,) x1, y1, ...].
+     * Via snapshot binaire (input_dayXX.pointsN.snap).
+     */
+    public static int[] snapshotPoints(String filename, int dims) {
+        ByteBuffer source = mapFile(filename);
+        long checksum = Snapshot.checksum(source);
+        Path file = Snapshot.pathFor(filename, "points" + dims);
+        Optional<Snapshot> snapshot = Snapshot.open(file, checksum, source.limit())
+            .filter(s -> s.hasSection(0, Snapshot.TYPE_INTS));
+        if (snapshot.isPresent()) {
+            return snapshot.get().ints(0);
+        }
+
+        LongList values = new LongList();
+        ByteInput.LineCursor line = ByteInput.of(source).lines();
+        while (line.next()) {
+            if (line.isEmpty()) continue;
+            for (int d = 0; d < dims; d++) {
+                values.add(line.nextInt());
+            }
+        }
+        int[] points = values.toIntArray();
+        new Snapshot.Writer().addInts(points).write(file, checksum, source.limit());
+        return points;
+    }
+
+    /**
+     * Grille de caractères (premier bloc du fichier), via snapshot binaire (input_dayXX.grid.snap).
+     * Les lignes plus courtes sont complétées par des espaces.
+     */
+    public static CharGrid snapshotGrid(String filename) {
+        ByteBuffer source = mapFile(filename);
+        long checksum = Snapshot.checksum(source);
+        Path file = Snapshot.pathFor(filename, "grid");
+        Optional<Snapshot> snapshot = Snapshot.open(file, checksum, source.limit())
+            .filter(s -> s.hasSection(0, Snapshot.TYPE_BYTES));
+        if (snapshot.isPresent()) {
+            Snapshot snap = snapshot.get();
+            return gridView(snap.section(0), snap.dim0(0), snap.dim1(0));
+        }
+
+        CharGrid grid = ByteInput.of(source).toCharGrid();
+        byte[] cells = new byte[grid.width * grid.height];
+        for (int y = 0; y < grid.height; y++) {
+            for (int x = 0; x < grid.width; x++) {
+                cells[y * grid.width + x] = (byte) grid.get(x, y);
+            }
+        }
+        new Snapshot.Writer().addBytes(cells, grid.width, grid.height).write(file, checksum, source.limit());
+        return grid;
+    }
+
+    private static CharGrid gridView(ByteBuffer cells, int width, int height) {
+        int[] rowStart = new int[height];
+        int[] rowLength = new int[height];
+        for (int y = 0; y < height; y++) {
+            rowStart[y] = y * width;
+            rowLength[y] = width;
+        }
+        return new CharGrid(cells, rowStart, rowLength);
+    }
+
+    private static ByteBuffer mapFile(String filename) {
+        try (FileChannel channel = FileChannel.open(Path.of(filename), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File too large to map: " + filename);
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file: " + filename, e);
+        }
+    }
 }
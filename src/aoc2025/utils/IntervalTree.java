@@ -0,0 +1,291 @@
+package aoc2025.utils;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Ensemble dynamique de ranges [start, end] inclusifs avec insertions/suppressions
+ * au fil de l'eau, sans retri global (contrairement à Range.merge / RangeList).
+ *
+ * Segment tree creux sur le domaine long: les nœuds sont créés à la demande le long
+ * des chemins touchés, donc pas besoin de connaître les bornes à l'avance (pas de
+ * compression de coordonnées). Chaque range est rangé dans O(log U) nœuds canoniques.
+ * - insert / delete: O(log U), U = taille du domaine (au plus 63 niveaux)
+ * - stabbing (ranges contenant x): O(log U + k)
+ * - couverture totale (valeurs couvertes par au moins un range): O(1), maintenue à jour
+ * Les doublons sont autorisés; chaque insertion renvoie un handle pour la supprimer.
+ * Un nœud redevenu vide (aucun range, aucun enfant) est détaché et son slot réutilisé:
+ * la mémoire suit l'ensemble vivant, pas le nombre total d'insertions.
+ */
+public class IntervalTree {
+    private static final int NONE = -1;
+
+    private final long domainStart;
+    private final long domainEnd;
+
+    // Pool de nœuds (tableaux parallèles), nœud 0 = racine
+    private int[] left;
+    private int[] right;
+    private int[] count;        // Ranges qui couvrent entièrement le nœud
+    private long[] covered;     // Valeurs couvertes dans le sous-arbre
+    private int[][] handles;    // Handles des ranges rangés dans ce nœud
+    private int[] handleCount;
+    private int nodeCount;
+    private int[] freeNodes = new int[16];  // Slots libérés, réutilisés par newNode()
+    private int freeCount;
+
+    // Ranges par handle (null = supprimé), handles libres réutilisés
+    private final List<Range> ranges = new ArrayList<>();
+    private final Deque<Integer> freeHandles = new ArrayDeque<>();
+    private int size;
+
+    /**
+     * Arbre sur les valeurs positives ou nulles [0, Long.MAX_VALUE - 1].
+     */
+    public IntervalTree() {
+        this(0, Long.MAX_VALUE - 1);
+    }
+
+    /**
+     * Arbre sur le domaine [domainStart, domainEnd] (sa taille doit tenir dans un long).
+     */
+    public IntervalTree(long domainStart, long domainEnd) {
+        if (domainStart > domainEnd || domainEnd - domainStart < 0 || domainEnd - domainStart == Long.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid domain: [" + domainStart + ", " + domainEnd + "]");
+        }
+        this.domainStart = domainStart;
+        this.domainEnd = domainEnd;
+        int capacity = 64;
+        left = new int[capacity];
+        right = new int[capacity];
+        count = new int[capacity];
+        covered = new long[capacity];
+        handles = new int[capacity][];
+        handleCount = new int[capacity];
+        newNode();
+    }
+
+    // ========== UPDATES ==========
+
+    /**
+     * Insère [start, end] et retourne son handle.
+     */
+    public int insert(long start, long end) {
+        return insert(new Range(start, end));
+    }
+
+    public int insert(Range range) {
+        if (range.start() < domainStart || range.end() > domainEnd) {
+            throw new IllegalArgumentException("Range " + range + " outside domain [" + domainStart + ", " + domainEnd + "]");
+        }
+        int handle;
+        if (freeHandles.isEmpty()) {
+            handle = ranges.size();
+            ranges.add(range);
+        } else {
+            handle = freeHandles.pop();
+            ranges.set(handle, range);
+        }
+        update(0, domainStart, domainEnd, range.start(), range.end(), handle, +1);
+        size++;
+        return handle;
+    }
+
+    /**
+     * Supprime le range d'un handle. Retourne false si le handle est inconnu ou déjà supprimé.
+     */
+    public boolean delete(int handle) {
+        if (handle < 0 || handle >= ranges.size() || ranges.get(handle) == null) {
+            return false;
+        }
+        Range range = ranges.get(handle);
+        update(0, domainStart, domainEnd, range.start(), range.end(), handle, -1);
+        ranges.set(handle, null);
+        freeHandles.push(handle);
+        size--;
+        return true;
+    }
+
+    private void update(int node, long lo, long hi, long start, long end, int handle, int delta) {
+        if (start <= lo && hi <= end) {
+            // Nœud canonique: entièrement couvert par le range
+            count[node] += delta;
+            if (delta > 0) addHandle(node, handle);
+            else removeHandle(node, handle);
+        } else {
+            long mid = lo + (hi - lo) / 2;
+            if (start <= mid) {
+                if (left[node] == NONE) {
+                    int child = newNode();  // Peut réallouer les tableaux: affecter après
+                    left[node] = child;
+                }
+                update(left[node], lo, mid, start, end, handle, delta);
+                if (isEmptyLeaf(left[node])) {
+                    freeNode(left[node]);
+                    left[node] = NONE;
+                }
+            }
+            if (end > mid) {
+                if (right[node] == NONE) {
+                    int child = newNode();
+                    right[node] = child;
+                }
+                update(right[node], mid + 1, hi, start, end, handle, delta);
+                if (isEmptyLeaf(right[node])) {
+                    freeNode(right[node]);
+                    right[node] = NONE;
+                }
+            }
+        }
+        covered[node] = count[node] > 0 ? hi - lo + 1 : coveredOf(left[node]) + coveredOf(right[node]);
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Nombre de valeurs couvertes par au moins un range, en O(1).
+     */
+    public long coverage() {
+        return covered[0];
+    }
+
+    /**
+     * Ranges qui contiennent x (stabbing query).
+     */
+    public List<Range> stab(long x) {
+        List<Range> result = new ArrayList<>();
+        forEachOnPath(x, node -> {
+            for (int i = 0; i < handleCount[node]; i++) {
+                result.add(ranges.get(handles[node][i]));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Nombre de ranges qui contiennent x, sans allocation de liste.
+     */
+    public int stabCount(long x) {
+        int[] total = {0};
+        forEachOnPath(x, node -> total[0] += count[node]);
+        return total[0];
+    }
+
+    /**
+     * Vrai si x est couvert par au moins un range.
+     */
+    public boolean contains(long x) {
+        return stabCount(x) > 0;
+    }
+
+    /**
+     * Nombre de ranges présents (doublons compris).
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Ranges présents, fusionnés (disjoints et triés).
+     */
+    public List<Range> merged() {
+        RangeList list = new RangeList(Math.max(1, size));
+        for (Range r : ranges) {
+            if (r != null) list.add(r.start(), r.end());
+        }
+        return list.merge().toList();
+    }
+
+    private void forEachOnPath(long x, IntConsumer action) {
+        if (x < domainStart || x > domainEnd) return;
+        int node = 0;
+        long lo = domainStart, hi = domainEnd;
+        while (node != NONE) {
+            action.accept(node);
+            long mid = lo + (hi - lo) / 2;
+            if (x <= mid) {
+                node = left[node];
+                hi = mid;
+            } else {
+                node = right[node];
+                lo = mid + 1;
+            }
+        }
+    }
+
+    // ========== NODE POOL ==========
+
+    /**
+     * Nombre de nœuds alloués (racine comprise, slots libérés exclus).
+     */
+    int liveNodes() {
+        return nodeCount - freeCount;
+    }
+
+    private int newNode() {
+        if (freeCount > 0) {
+            int node = freeNodes[--freeCount];
+            left[node] = NONE;
+            right[node] = NONE;
+            count[node] = 0;
+            covered[node] = 0;
+            handleCount[node] = 0;  // Le tableau de handles est conservé
+            return node;
+        }
+        if (nodeCount == left.length) {
+            int capacity = nodeCount * 2;
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            count = Arrays.copyOf(count, capacity);
+            covered = Arrays.copyOf(covered, capacity);
+            handles = Arrays.copyOf(handles, capacity);
+            handleCount = Arrays.copyOf(handleCount, capacity);
+        }
+        int node = nodeCount++;
+        left[node] = NONE;
+        right[node] = NONE;
+        return node;
+    }
+
+    private boolean isEmptyLeaf(int node) {
+        return count[node] == 0 && handleCount[node] == 0 && left[node] == NONE && right[node] == NONE;
+    }
+
+    private void freeNode(int node) {
+        if (freeCount == freeNodes.length) {
+            freeNodes = Arrays.copyOf(freeNodes, freeCount * 2);
+        }
+        freeNodes[freeCount++] = node;
+    }
+
+    private long coveredOf(int node) {
+        return node == NONE ? 0 : covered[node];
+    }
+
+    private void addHandle(int node, int handle) {
+        int[] list = handles[node];
+        if (list == null) {
+            list = handles[node] = new int[2];
+        } else if (handleCount[node] == list.length) {
+            list = handles[node] = Arrays.copyOf(list, list.length * 2);
+        }
+        list[handleCount[node]++] = handle;
+    }
+
+    private void removeHandle(int node, int handle) {
+        int[] list = handles[node];
+        int n = handleCount[node];
+        for (int i = 0; i < n; i++) {
+            if (list[i] == handle) {
+                list[i] = list[n - 1];  // Ordre non significatif: swap avec le dernier
+                handleCount[node] = n - 1;
+                return;
+            }
+        }
+        throw new IllegalStateException("Handle " + handle + " not stored in node " + node);
+    }
+}
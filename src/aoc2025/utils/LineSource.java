@@ -0,0 +1,159 @@
+package aoc2025.utils;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.*;
+import java.util.stream.Stream;
+
+/**
+ * Pipeline streaming sur les lignes d'un input: lecture → parse → solve.
+ * Les lignes sont lues et parsées sur un thread producteur (InputReader.streamLines),
+ * puis passées par lots dans une file bornée au thread qui fait le fold.
+ * La mémoire utilisée est bornée par la taille de la file, quelle que soit la taille de l'input.
+ */
+public class LineSource<T> {
+
+    private static final int DEFAULT_CAPACITY = 16;   // Lots en attente dans la file
+    private static final int BATCH_SIZE = 1024;       // Éléments parsés par lot
+
+    // Marqueur de fin de flux dans la file
+    private static final List<Object> END = List.of();
+
+    private final Supplier<Stream<String>> lines;
+    private final Function<String, ? extends T> parser;
+    private final int capacity;
+
+    private LineSource(Supplier<Stream<String>> lines, Function<String, ? extends T> parser, int capacity) {
+        this.lines = lines;
+        this.parser = parser;
+        this.capacity = capacity;
+    }
+
+    // ========== SOURCES ==========
+
+    /**
+     * Lignes d'un fichier, relues à chaque exécution du pipeline.
+     */
+    public static LineSource<String> of(String filename) {
+        return new LineSource<>(() -> InputReader.streamLines(filename), Function.identity(), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Lignes du fichier input du jour spécifié.
+     */
+    public static LineSource<String> ofDay(int day) {
+        return of(String.format("input/input_day%02d.txt", day));
+    }
+
+    /**
+     * Lignes déjà en mémoire (exemples, tests).
+     */
+    public static LineSource<String> of(List<String> lines) {
+        return new LineSource<>(lines::stream, Function.identity(), DEFAULT_CAPACITY);
+    }
+
+    // ========== STAGES ==========
+
+    /**
+     * Ajoute une étape de parsing (exécutée sur le thread producteur).
+     */
+    public <R> LineSource<R> map(Function<? super T, ? extends R> mapper) {
+        Function<String, ? extends T> previous = parser;
+        return new LineSource<>(lines, line -> mapper.apply(previous.apply(line)), capacity);
+    }
+
+    /**
+     * Nombre maximal de lots en attente entre le parse et le solve.
+     */
+    public LineSource<T> buffered(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        return new LineSource<>(lines, parser, capacity);
+    }
+
+    // ========== TERMINAL OPERATIONS ==========
+
+    /**
+     * Fold séquentiel sur les éléments parsés, dans l'ordre des lignes.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> A fold(A identity, BiFunction<A, ? super T, A> accumulator) {
+        Object[] state = {identity};
+        forEach(item -> state[0] = accumulator.apply((A) state[0], item));
+        return (A) state[0];
+    }
+
+    /**
+     * Fold d'un accumulateur long (sans boxing de l'état).
+     */
+    public long foldLong(long identity, LongFolder<? super T> accumulator) {
+        long[] state = {identity};
+        forEach(item -> state[0] = accumulator.apply(state[0], item));
+        return state[0];
+    }
+
+    @FunctionalInterface
+    public interface LongFolder<T> {
+        long apply(long accumulator, T item);
+    }
+
+    /**
+     * Consomme chaque élément parsé sur le thread appelant.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> consumer) {
+        BlockingQueue<List<Object>> queue = new ArrayBlockingQueue<>(capacity);
+        Throwable[] failure = new Throwable[1];
+
+        Thread producer = new Thread(() -> {
+            try (Stream<String> stream = lines.get()) {
+                List<Object> batch = new ArrayList<>(BATCH_SIZE);
+                Iterator<String> it = stream.iterator();
+                while (it.hasNext()) {
+                    batch.add(parser.apply(it.next()));
+                    if (batch.size() == BATCH_SIZE) {
+                        queue.put(batch);
+                        batch = new ArrayList<>(BATCH_SIZE);
+                    }
+                }
+                if (!batch.isEmpty()) queue.put(batch);
+            } catch (InterruptedException e) {
+                return;  // Le consommateur a abandonné
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+            try {
+                queue.put(END);
+            } catch (InterruptedException ignored) {
+                // Le consommateur a abandonné
+            }
+        }, "LineSource-producer");
+        producer.setDaemon(true);
+        producer.start();
+
+        try {
+            List<Object> batch;
+            while ((batch = queue.take()) != END) {
+                for (Object item : batch) {
+                    consumer.accept((T) item);
+                }
+            }
+            producer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading input", e);
+        } finally {
+            producer.interrupt();
+        }
+
+        if (failure[0] instanceof RuntimeException e) throw e;
+        if (failure[0] instanceof Error e) throw e;
+        if (failure[0] != null) throw new IllegalStateException(failure[0]);
+    }
+
+    public long count() {
+        return foldLong(0, (n, item) -> n + 1);
+    }
+}
@@ -1,7 +1,15 @@
 package aoc2025.utils;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
 
 /**
  * Utilitaires mathématiques pour AOC.
@@ -190,6 +198,141 @@ public class MathUtils {
         return new long[]{detX / det, detY / det};
     }
 
+    // ========== EXACT LINEAR ALGEBRA ==========
+
+    /**
+     * Solution générale exacte de Ax = b, sur les entiers, avec un dénominateur commun:
+     *   x = (particular + Σ t[k] × nullSpace[k]) / denominator
+     * où t[k] est la valeur de la variable libre freeCols[k].
+     * particular et nullSpace[k] sont des vecteurs entiers (nullSpace[k] est une base entière
+     * du noyau: A × nullSpace[k] = 0, et nullSpace[k][freeCols[k]] = denominator).
+     */
+    public record ExactSolution(long denominator, long[] particular, long[][] nullSpace, int[] freeCols) {
+
+        public int freeCount() {
+            return freeCols.length;
+        }
+
+        /**
+         * Calcule x pour des valeurs entières des variables libres.
+         * @return false si x n'est pas entier (x est alors incomplet)
+         */
+        public boolean evaluate(long[] freeValues, long[] x) {
+            for (int j = 0; j < particular.length; j++) {
+                long numerator = particular[j];
+                for (int k = 0; k < freeCols.length; k++) {
+                    numerator += freeValues[k] * nullSpace[k][j];
+                }
+                if (numerator % denominator != 0) return false;
+                x[j] = numerator / denominator;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Résout Ax = b exactement par élimination de Gauss-Jordan sans fractions:
+     * les lignes sont combinées par produits croisés (ligne × pivot - pivotRow × coef)
+     * puis réduites par leur pgcd, donc aucun flottant ni tolérance.
+     * Lève ArithmeticException si un coefficient intermédiaire dépasse un long.
+     * @return la solution générale, ou null si le système est incompatible
+     */
+    public static ExactSolution solveExact(long[][] A, long[] b) {
+        int m = A.length;
+        int n = m == 0 ? 0 : A[0].length;
+
+        // Matrice augmentée [A | b]
+        long[][] rows = new long[m][n + 1];
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(A[i], 0, rows[i], 0, n);
+            rows[i][n] = b[i];
+        }
+
+        int[] pivotCols = new int[Math.min(m, n)];
+        int rank = 0;
+        for (int col = 0; col < n && rank < m; col++) {
+            int pivot = -1;
+            for (int row = rank; row < m; row++) {
+                if (rows[row][col] != 0) {
+                    pivot = row;
+                    break;
+                }
+            }
+            if (pivot == -1) continue;
+
+            long[] tmp = rows[rank];
+            rows[rank] = rows[pivot];
+            rows[pivot] = tmp;
+            long[] pivotRow = rows[rank];
+            if (pivotRow[col] < 0) negate(pivotRow);
+
+            // Éliminer col dans toutes les autres lignes (au-dessus et en dessous)
+            for (int row = 0; row < m; row++) {
+                long factor = rows[row][col];
+                if (row == rank || factor == 0) continue;
+                long[] r = rows[row];
+                for (int j = 0; j <= n; j++) {
+                    r[j] = Math.subtractExact(
+                        Math.multiplyExact(r[j], pivotRow[col]),
+                        Math.multiplyExact(pivotRow[j], factor));
+                }
+                reduceByGcd(r);
+            }
+            pivotCols[rank++] = col;
+        }
+
+        // Lignes nulles restantes: 0 = b' doit être vérifié
+        for (int row = rank; row < m; row++) {
+            if (rows[row][n] != 0) return null;
+        }
+
+        // Dénominateur commun des pivots
+        long denominator = 1;
+        for (int i = 0; i < rank; i++) {
+            denominator = lcm(denominator, rows[i][pivotCols[i]]);
+        }
+
+        boolean[] isPivot = new boolean[n];
+        for (int i = 0; i < rank; i++) isPivot[pivotCols[i]] = true;
+        int[] freeCols = new int[n - rank];
+        for (int c = 0, f = 0; c < n; c++) {
+            if (!isPivot[c]) freeCols[f++] = c;
+        }
+
+        // x[pivot_i] = (rhs_i - Σ a_i,f × t_f) / d_i, mis au dénominateur commun
+        long[] particular = new long[n];
+        long[][] nullSpace = new long[freeCols.length][n];
+        for (int i = 0; i < rank; i++) {
+            long scale = denominator / rows[i][pivotCols[i]];
+            particular[pivotCols[i]] = Math.multiplyExact(rows[i][n], scale);
+            for (int k = 0; k < freeCols.length; k++) {
+                nullSpace[k][pivotCols[i]] = Math.multiplyExact(-rows[i][freeCols[k]], scale);
+            }
+        }
+        for (int k = 0; k < freeCols.length; k++) {
+            nullSpace[k][freeCols[k]] = denominator;
+        }
+        return new ExactSolution(denominator, particular, nullSpace, freeCols);
+    }
+
+    private static void negate(long[] row) {
+        for (int j = 0; j < row.length; j++) row[j] = Math.negateExact(row[j]);
+    }
+
+    /**
+     * Divise la ligne par le pgcd de ses coefficients (garde les entiers petits).
+     */
+    private static void reduceByGcd(long[] row) {
+        long g = 0;
+        for (long v : row) {
+            g = gcd(g, v);
+            if (g == 1) return;
+        }
+        if (g > 1) {
+            for (int j = 0; j < row.length; j++) row[j] /= g;
+        }
+    }
+
     // ========== LINEAR PROGRAMMING (SIMPLEX) ==========
 
     /**
@@ -217,7 +360,10 @@ public class MathUtils {
             tableau[i][totalVars] = sign * b[i];
         }
 
-        // Objectif phase 1: minimiser sum des artificielles
+        // Objectif phase 1: minimiser sum des artificielles (coût 1, réduit à 0 en base)
+        for (int i = 0; i < m; i++) {
+            tableau[m][n + i] = 1;
+        }
         for (int i = 0; i < m; i++) {
             for (int j = 0; j <= totalVars; j++) {
                 tableau[m][j] -= tableau[i][j];
@@ -245,30 +391,7 @@ public class MathUtils {
         }
 
         // Éliminer les artificielles de la base (même dégénérées)
-        for (int i = 0; i < m; i++) {
-            if (basis[i] >= n) {
-                // Trouver une variable originale pour pivoter
-                for (int j = 0; j < n; j++) {
-                    if (Math.abs(tableau[i][j]) > 1e-9) {
-                        // Pivot sur (i, j)
-                        basis[i] = j;
-                        double pivotVal = tableau[i][j];
-                        for (int k = 0; k <= totalVars; k++) {
-                            tableau[i][k] /= pivotVal;
-                        }
-                        for (int ii = 0; ii <= m; ii++) {
-                            if (ii != i) {
-                                double factor = tableau[ii][j];
-                                for (int k = 0; k <= totalVars; k++) {
-                                    tableau[ii][k] -= factor * tableau[i][k];
-                                }
-                            }
-                        }
-                        break;
-                    }
-                }
-            }
-        }
+        driveOutArtificials(tableau, basis, n);
 
         // Phase 2: Optimiser l'objectif original
         double[][] tableau2 = new double[m + 1][n + 1];
@@ -326,6 +449,9 @@ public class MathUtils {
             tableau[i][totalVars] = sign * b[i];
         }
 
+        for (int i = 0; i < m; i++) {
+            tableau[m][n + i] = 1;
+        }
         for (int i = 0; i < m; i++) {
             for (int j = 0; j <= totalVars; j++) {
                 tableau[m][j] -= tableau[i][j];
@@ -345,6 +471,8 @@ public class MathUtils {
             return null;
         }
 
+        driveOutArtificials(tableau, basis, n);
+
         double[][] tableau2 = new double[m + 1][n + 1];
         for (int i = 0; i < m; i++) {
             System.arraycopy(tableau[i], 0, tableau2[i], 0, n);
@@ -376,6 +504,40 @@ public class MathUtils {
         return solution;
     }
 
+    /**
+     * Après la phase 1, sort de la base les artificielles restantes (à 0) en pivotant
+     * sur une variable originale de leur ligne. Une ligne sans variable originale
+     * est redondante: elle reste à 0 et sera ignorée par la phase 2.
+     */
+    private static void driveOutArtificials(double[][] tableau, int[] basis, int n) {
+        int m = basis.length;
+        int lastCol = tableau[0].length - 1;
+        for (int i = 0; i < m; i++) {
+            if (basis[i] >= n) {
+                // Trouver une variable originale pour pivoter
+                for (int j = 0; j < n; j++) {
+                    if (Math.abs(tableau[i][j]) > 1e-9) {
+                        // Pivot sur (i, j)
+                        basis[i] = j;
+                        double pivotVal = tableau[i][j];
+                        for (int k = 0; k <= lastCol; k++) {
+                            tableau[i][k] /= pivotVal;
+                        }
+                        for (int ii = 0; ii <= m; ii++) {
+                            if (ii != i) {
+                                double factor = tableau[ii][j];
+                                for (int k = 0; k <= lastCol; k++) {
+                                    tableau[ii][k] -= factor * tableau[i][k];
+                                }
+                            }
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
     private static boolean runSimplex(double[][] tableau, int[] basis, int numVars) {
         int m = basis.length;
         int lastCol = tableau[0].length - 1;
@@ -427,6 +589,199 @@ public class MathUtils {
         }
     }
 
+    // ========== INTEGER LINEAR PROGRAMMING ==========
+
+    private static final double INTEGRALITY_EPS = 1e-6;
+
+    /**
+     * Nœud du branch-and-bound: bornes des variables et relaxation LP correspondante.
+     */
+    private record IlpNode(long[] lower, long[] upper, double[] x, double bound) {}
+
+    /**
+     * Programmation linéaire en nombres entiers: minimise c'x sous Ax = b, x >= 0, x entier.
+     * Branch-and-bound au-dessus du simplex: chaque nœud restreint les variables à
+     * lower <= x <= upper et résout la relaxation continue, dont la valeur borne
+     * inférieurement toutes les solutions entières du nœud. Exploration best-first
+     * (plus petite borne d'abord), branchement sur la variable la plus fractionnaire
+     * (x <= floor(v) | x >= ceil(v)), élagage des nœuds qui ne peuvent plus battre
+     * la meilleure solution entière trouvée.
+     * Le simplex est en double: à réserver aux systèmes dont l'espace des variables libres
+     * est trop large pour l'élimination exacte (solveExact) suivie d'une énumération
+     * (ex: Day 10, au-delà de MAX_ENUMERATION). Chaque candidat est vérifié sur les entiers
+     * arrondis; un arrondi infaisable relance le branchement au lieu d'élaguer le nœud.
+     * @return solution entière optimale, ou null si aucune
+     */
+    public static long[] minimizeIntegerLP(double[][] A, double[] b, double[] c) {
+        int n = c.length;
+        boolean integralObjective = true;
+        for (double v : c) {
+            if (v != Math.rint(v)) integralObjective = false;
+        }
+
+        long[] lower = new long[n];
+        long[] upper = new long[n];
+        Arrays.fill(upper, Long.MAX_VALUE);
+        IlpNode root = relax(A, b, c, lower, upper);
+        if (root == null) return null;
+
+        PriorityQueue<IlpNode> open = new PriorityQueue<>(Comparator.comparingDouble(IlpNode::bound));
+        open.add(root);
+        long[] best = null;
+        double bestValue = Double.POSITIVE_INFINITY;
+
+        while (!open.isEmpty()) {
+            IlpNode node = open.poll();
+            // Best-first: si ce nœud ne peut pas améliorer, aucun des suivants non plus
+            if (!canImprove(node.bound(), bestValue, integralObjective)) break;
+
+            List<IlpNode> children = new ArrayList<>(3);
+            int branch = mostFractional(node.x());
+            if (branch >= 0) {
+                double v = node.x()[branch];
+                children.add(withBounds(A, b, c, node, branch, node.lower()[branch], (long) Math.floor(v)));
+                children.add(withBounds(A, b, c, node, branch, (long) Math.ceil(v), node.upper()[branch]));
+            } else {
+                // Relaxation entière: solution candidate (vérifiée exactement, le simplex est en double)
+                long[] candidate = new long[n];
+                for (int j = 0; j < n; j++) candidate[j] = Math.round(node.x()[j]);
+                if (satisfies(A, b, candidate)) {
+                    double value = 0;
+                    for (int j = 0; j < n; j++) value += c[j] * candidate[j];
+                    if (value < bestValue) {
+                        bestValue = value;
+                        best = candidate;
+                    }
+                    continue;
+                }
+
+                // Arrondi infaisable: le simplex a conclu à tort à une solution entière
+                // (x à moins de INTEGRALITY_EPS d'un entier). Le nœud ne peut pas être
+                // abandonné: la variable la plus mal arrondie est fixée à son arrondi r,
+                // ou exclue de part et d'autre (x <= r - 1 | x = r | x >= r + 1).
+                int j = worstRounded(node);
+                if (j < 0) continue;  // Toutes les variables fixées: le seul point du nœud est infaisable
+                long r = Math.max(node.lower()[j], Math.min(node.upper()[j], candidate[j]));
+                children.add(withBounds(A, b, c, node, j, node.lower()[j], r - 1));
+                children.add(withBounds(A, b, c, node, j, r, r));
+                children.add(withBounds(A, b, c, node, j, r + 1, node.upper()[j]));
+            }
+
+            for (IlpNode child : children) {
+                if (child != null && canImprove(child.bound(), bestValue, integralObjective)) {
+                    open.add(child);
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Relaxation du nœud avec la variable j restreinte à [lo, hi] (null si vide ou infaisable).
+     */
+    private static IlpNode withBounds(double[][] A, double[] b, double[] c, IlpNode node, int j, long lo, long hi) {
+        if (lo > hi) return null;
+        long[] lower = node.lower().clone();
+        long[] upper = node.upper().clone();
+        lower[j] = lo;
+        upper[j] = hi;
+        return relax(A, b, c, lower, upper);
+    }
+
+    /**
+     * Variable non fixée (lower < upper) la plus éloignée de son arrondi, ou -1 si toutes sont fixées.
+     */
+    private static int worstRounded(IlpNode node) {
+        int worst = -1;
+        double maxResidual = -1;
+        for (int j = 0; j < node.x().length; j++) {
+            if (node.lower()[j] == node.upper()[j]) continue;
+            double residual = Math.abs(node.x()[j] - Math.rint(node.x()[j]));
+            if (residual > maxResidual) {
+                maxResidual = residual;
+                worst = j;
+            }
+        }
+        return worst;
+    }
+
+    /**
+     * Relaxation LP avec bornes: x = lower + y, y >= 0, et y_j + s_j = upper_j - lower_j
+     * (variable d'écart s_j >= 0) pour chaque borne supérieure finie.
+     * @return le nœud, ou null si la relaxation est infaisable ou non bornée
+     */
+    private static IlpNode relax(double[][] A, double[] b, double[] c, long[] lower, long[] upper) {
+        int m = A.length;
+        int n = c.length;
+        int bounded = 0;
+        for (int j = 0; j < n; j++) {
+            if (upper[j] < lower[j]) return null;
+            if (upper[j] != Long.MAX_VALUE) bounded++;
+        }
+
+        double[][] a = new double[m + bounded][n + bounded];
+        double[] rhs = new double[m + bounded];
+        double[] cost = new double[n + bounded];
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(A[i], 0, a[i], 0, n);
+            rhs[i] = b[i];
+            for (int j = 0; j < n; j++) rhs[i] -= A[i][j] * lower[j];
+        }
+        for (int j = 0, k = 0; j < n; j++) {
+            if (upper[j] == Long.MAX_VALUE) continue;
+            a[m + k][j] = 1;
+            a[m + k][n + k] = 1;
+            rhs[m + k] = upper[j] - lower[j];
+            k++;
+        }
+        System.arraycopy(c, 0, cost, 0, n);
+
+        double[] y = simplex(a, rhs, cost);
+        if (y == null) return null;
+
+        double[] x = new double[n];
+        double bound = 0;
+        for (int j = 0; j < n; j++) {
+            x[j] = lower[j] + y[j];
+            bound += c[j] * x[j];
+        }
+        return new IlpNode(lower, upper, x, bound);
+    }
+
+    private static boolean canImprove(double bound, double bestValue, boolean integralObjective) {
+        // Objectif entier: la borne peut être arrondie au supérieur
+        double effective = integralObjective ? Math.ceil(bound - INTEGRALITY_EPS) : bound;
+        return effective < bestValue - (integralObjective ? 0.5 : INTEGRALITY_EPS);
+    }
+
+    /**
+     * Variable la plus éloignée d'un entier, ou -1 si toutes sont entières.
+     */
+    private static int mostFractional(double[] x) {
+        int branch = -1;
+        double maxDistance = INTEGRALITY_EPS;
+        for (int j = 0; j < x.length; j++) {
+            double distance = Math.abs(x[j] - Math.rint(x[j]));
+            if (distance > maxDistance) {
+                maxDistance = distance;
+                branch = j;
+            }
+        }
+        return branch;
+    }
+
+    private static boolean satisfies(double[][] A, double[] b, long[] x) {
+        for (long v : x) {
+            if (v < 0) return false;
+        }
+        for (int i = 0; i < A.length; i++) {
+            double lhs = 0;
+            for (int j = 0; j < x.length; j++) lhs += A[i][j] * x[j];
+            if (Math.abs(lhs - b[i]) > INTEGRALITY_EPS) return false;
+        }
+        return true;
+    }
+
     // ========== NUMBER THEORY ==========
 
     public static boolean isPrime(long n) {
@@ -453,6 +808,130 @@ public class MathUtils {
         return n * (n + 1) * (2 * n + 1) / 6;
     }
 
+    // ========== 128-BIT ARITHMETIC ==========
+
+    /**
+     * Accumulateur d'entiers signés sur 128 bits (complément à deux, hi:lo), mutable
+     * et sans allocation: alternative à BigInteger pour les sommes qui dépassent un long.
+     * Produits exacts via Math.multiplyHigh, retenue par comparaison non signée.
+     * Lève ArithmeticException si la somme dépasse 128 bits.
+     * BigInteger n'est utilisé que pour l'affichage (toString / toBigInteger).
+     */
+    public static class LongAccumulator128 {
+        private long hi;   // Poids fort, signé
+        private long lo;   // Poids faible, non signé
+
+        public LongAccumulator128() {
+        }
+
+        public LongAccumulator128(long value) {
+            add(value);
+        }
+
+        public LongAccumulator128 add(long value) {
+            return add(value >> 63, value);  // Extension de signe
+        }
+
+        public LongAccumulator128 subtract(long value) {
+            if (value == Long.MIN_VALUE) {
+                return add(0, Long.MIN_VALUE);  // -MIN = 2^63
+            }
+            return add(-value);
+        }
+
+        /**
+         * Ajoute a × b calculé exactement sur 128 bits.
+         */
+        public LongAccumulator128 addProduct(long a, long b) {
+            return add(Math.multiplyHigh(a, b), a * b);
+        }
+
+        /**
+         * Retranche a × b calculé exactement sur 128 bits.
+         */
+        public LongAccumulator128 subtractProduct(long a, long b) {
+            long productHi = Math.multiplyHigh(a, b);
+            long productLo = a * b;
+            // Négation 128 bits: ~x + 1 (un produit de deux longs n'atteint jamais -2^127)
+            return add(~productHi + (productLo == 0 ? 1 : 0), -productLo);
+        }
+
+        public LongAccumulator128 add(LongAccumulator128 other) {
+            return add(other.hi, other.lo);
+        }
+
+        private LongAccumulator128 add(long otherHi, long otherLo) {
+            long sumLo = lo + otherLo;
+            long carry = Long.compareUnsigned(sumLo, lo) < 0 ? 1 : 0;
+            lo = sumLo;
+            hi = addExact(hi, otherHi, carry);
+            return this;
+        }
+
+        /**
+         * hi + otherHi + carry, en détectant le dépassement du résultat final uniquement.
+         */
+        private static long addExact(long hi, long otherHi, long carry) {
+            if (carry == 0) return Math.addExact(hi, otherHi);
+            if (otherHi != Long.MAX_VALUE) return Math.addExact(hi, otherHi + 1);
+            return Math.addExact(Math.incrementExact(hi), otherHi);
+        }
+
+        public boolean fitsInLong() {
+            return hi == (lo >> 63);
+        }
+
+        public long longValueExact() {
+            if (!fitsInLong()) {
+                throw new ArithmeticException("Value does not fit in a long: " + this);
+            }
+            return lo;
+        }
+
+        public BigInteger toBigInteger() {
+            BigInteger low = BigInteger.valueOf(lo & Long.MAX_VALUE);
+            if (lo < 0) low = low.setBit(63);
+            return BigInteger.valueOf(hi).shiftLeft(64).add(low);
+        }
+
+        @Override
+        public String toString() {
+            return fitsInLong() ? Long.toString(lo) : toBigInteger().toString();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof LongAccumulator128 other && hi == other.hi && lo == other.lo;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(hi) * 31 + Long.hashCode(lo);
+        }
+
+        /**
+         * Collector de somme sur 128 bits, utilisable sur un stream parallèle
+         * (un accumulateur par sous-tâche, combinés à la fin).
+         */
+        public static <T> Collector<T, ?, LongAccumulator128> summing(ToLongFunction<? super T> mapper) {
+            return collecting((acc, item) -> acc.add(mapper.applyAsLong(item)));
+        }
+
+        /**
+         * Collector où chaque élément s'ajoute lui-même à l'accumulateur
+         * (termes qui dépassent un long: addProduct, subtractProduct...).
+         */
+        public static <T> Collector<T, ?, LongAccumulator128> collecting(BiConsumer<LongAccumulator128, ? super T> accumulator) {
+            return Collector.of(
+                LongAccumulator128::new,
+                (acc, item) -> accumulator.accept(acc, item),
+                LongAccumulator128::add,
+                Collector.Characteristics.IDENTITY_FINISH,
+                Collector.Characteristics.UNORDERED
+            );
+        }
+    }
+
     // ========== MISC ==========
 
     /**
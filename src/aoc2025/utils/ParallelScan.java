@@ -0,0 +1,141 @@
+package aoc2025.utils;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BinaryOperator;
+import java.util.function.IntFunction;
+
+/**
+ * Folds parallèles sur un buffer primitif (long[]), pour les puzzles "fold sur les lignes".
+ * L'utilisateur fournit un monoïde (identité + combine associatif) sur un résumé d'état:
+ * le buffer est découpé en chunks contigus, chaque chunk est replié sur un worker du
+ * ForkJoinPool, puis les résumés sont combinés dans l'ordre des chunks.
+ * Le combine n'a pas besoin d'être commutatif: le résultat est celui de la boucle séquentielle.
+ */
+public class ParallelScan {
+
+    private static final int MIN_CHUNK_SIZE = 1 << 16;  // Éléments par chunk, au minimum
+
+    /**
+     * Monoïde: identity() est neutre pour combine(), et combine() est associatif.
+     */
+    public interface Monoid<S> {
+        S identity();
+
+        S combine(S left, S right);
+
+        static <S> Monoid<S> of(S identity, BinaryOperator<S> combine) {
+            return new Monoid<>() {
+                @Override
+                public S identity() {
+                    return identity;
+                }
+
+                @Override
+                public S combine(S left, S right) {
+                    return combine.apply(left, right);
+                }
+            };
+        }
+
+        Monoid<Long> LONG_SUM = of(0L, Long::sum);
+    }
+
+    /**
+     * Résumé des éléments [from, to) d'un chunk.
+     */
+    @FunctionalInterface
+    public interface ChunkFolder<S> {
+        S fold(long[] values, int from, int to);
+    }
+
+    /**
+     * Résumé d'un chunk connaissant le préfixe (combine de tous les chunks précédents).
+     */
+    @FunctionalInterface
+    public interface ChunkScanner<P, R> {
+        R scan(P prefix, long[] values, int from, int to);
+    }
+
+    // ========== REDUCE ==========
+
+    /**
+     * Fold de tout le buffer: folder sur chaque chunk en parallèle, puis combine dans l'ordre.
+     */
+    public static <S> S reduce(long[] values, Monoid<S> monoid, ChunkFolder<S> folder) {
+        int[] bounds = chunkBounds(values.length);
+        return combineAll(monoid, runChunks(bounds.length - 1, k -> folder.fold(values, bounds[k], bounds[k + 1])));
+    }
+
+    // ========== SCAN ==========
+
+    /**
+     * Fold dont chaque étape dépend de l'état accumulé avant elle (ex: position d'un dial).
+     * Somme préfixe en deux passes:
+     * 1. summary résume chaque chunk en parallèle (monoïde prefixMonoid),
+     * 2. préfixe exclusif séquentiel sur les résumés (un par chunk, peu nombreux),
+     * 3. scanner traite chaque chunk en parallèle à partir de son préfixe,
+     *    et les résultats sont combinés dans l'ordre (monoïde resultMonoid).
+     */
+    public static <P, R> R scan(long[] values,
+                                Monoid<P> prefixMonoid, ChunkFolder<P> summary,
+                                Monoid<R> resultMonoid, ChunkScanner<P, R> scanner) {
+        int[] bounds = chunkBounds(values.length);
+        int chunks = bounds.length - 1;
+
+        List<P> summaries = runChunks(chunks, k -> summary.fold(values, bounds[k], bounds[k + 1]));
+
+        List<P> prefixes = new ArrayList<>(chunks);
+        P prefix = prefixMonoid.identity();
+        for (P s : summaries) {
+            prefixes.add(prefix);
+            prefix = prefixMonoid.combine(prefix, s);
+        }
+
+        return combineAll(resultMonoid,
+            runChunks(chunks, k -> scanner.scan(prefixes.get(k), values, bounds[k], bounds[k + 1])));
+    }
+
+    // ========== CHUNKS ==========
+
+    /**
+     * Limites [0, ..., length] des chunks: environ 4 chunks par worker, MIN_CHUNK_SIZE au minimum.
+     */
+    private static int[] chunkBounds(int length) {
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        int chunks = (int) Math.max(1, Math.min(parallelism * 4L, length / MIN_CHUNK_SIZE));
+        int[] bounds = new int[chunks + 1];
+        for (int k = 0; k <= chunks; k++) {
+            bounds[k] = (int) ((long) length * k / chunks);
+        }
+        return bounds;
+    }
+
+    /**
+     * Exécute chunk(k) pour k = 0..chunks-1 dans le pool; résultats dans l'ordre des chunks.
+     */
+    private static <S> List<S> runChunks(int chunks, IntFunction<S> chunk) {
+        if (chunks == 1) {
+            return List.of(chunk.apply(0));
+        }
+        List<ForkJoinTask<S>> tasks = new ArrayList<>(chunks);
+        for (int k = 0; k < chunks; k++) {
+            int index = k;
+            tasks.add(ForkJoinPool.commonPool().submit(() -> chunk.apply(index)));
+        }
+        List<S> results = new ArrayList<>(chunks);
+        for (ForkJoinTask<S> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    private static <S> S combineAll(Monoid<S> monoid, List<S> parts) {
+        S result = monoid.identity();
+        for (S part : parts) {
+            result = monoid.combine(result, part);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,147 @@
+package aoc2025.utils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache de l'input parsé, partagé entre part 1, part 2 et les exécutions répétées.
+ * Chaque jour déclare son parser une seule fois; le résultat est mis en cache par
+ * (jour, nom du parser, version du format, hash du fichier). Un input modifié invalide donc le cache.
+ * Optionnellement, le résultat est sérialisé sur disque (input/.cache/) pour que
+ * les relances à chaud sautent le parsing. La version du format fait partie du nom du
+ * fichier: l'incrémenter quand le parser ou les classes parsées changent.
+ *
+ * La structure parsée est partagée: elle doit être traitée en lecture seule.
+ */
+public class ParsedInput<T> {
+
+    private static final Path DISK_CACHE_DIR = Path.of("input", ".cache");
+
+    private static final Map<Key, Object> CACHE = new ConcurrentHashMap<>();
+
+    private record Key(int day, String name, int version, String hash) {}
+
+    private final int day;
+    private final String name;
+    private final Function<List<String>, T> parser;
+    private final boolean persistent;
+    private final int version;
+
+    private ParsedInput(int day, String name, Function<List<String>, T> parser, boolean persistent, int version) {
+        this.day = day;
+        this.name = name;
+        this.parser = parser;
+        this.persistent = persistent;
+        this.version = version;
+    }
+
+    /**
+     * Déclare le parser de l'input d'un jour.
+     */
+    public static <T> ParsedInput<T> of(int day, Function<List<String>, T> parser) {
+        return of(day, "input", parser);
+    }
+
+    /**
+     * Déclare un parser nommé (plusieurs structures parsées pour un même jour).
+     */
+    public static <T> ParsedInput<T> of(int day, String name, Function<List<String>, T> parser) {
+        return new ParsedInput<>(day, name, parser, false, 0);
+    }
+
+    /**
+     * Active le cache disque (le résultat parsé doit être Serializable).
+     * @param version version du format, à incrémenter quand le parser ou les classes parsées
+     *                changent (les anciens fichiers .ser ne sont alors plus relus)
+     */
+    public ParsedInput<T> persistent(int version) {
+        return new ParsedInput<>(day, name, parser, true, version);
+    }
+
+    /**
+     * Input parsé du fichier du jour (input/input_dayXX.txt).
+     */
+    public T get() {
+        return get(String.format("input/input_day%02d.txt", day));
+    }
+
+    /**
+     * Input parsé d'un fichier donné (ex: fichier d'exemple).
+     */
+    @SuppressWarnings("unchecked")
+    public T get(String filename) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(Path.of(filename));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read file: " + filename, e);
+        }
+        Key key = new Key(day, name, version, hash(content));
+        return (T) CACHE.computeIfAbsent(key, k -> load(k, content));
+    }
+
+    /**
+     * Vide le cache mémoire (le cache disque est conservé).
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private T load(Key key, byte[] content) {
+        Path file = DISK_CACHE_DIR.resolve(String.format("day%02d-%s-v%d-%s.ser",
+            key.day(), key.name(), key.version(), key.hash()));
+        if (persistent && Files.exists(file)) {
+            T cached = readFromDisk(file);
+            if (cached != null) return cached;
+        }
+
+        List<String> lines = new String(content, StandardCharsets.UTF_8).lines().toList();
+        T parsed = parser.apply(lines);
+
+        if (persistent) {
+            writeToDisk(file, parsed);
+        }
+        return parsed;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T readFromDisk(Path file) {
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return (T) in.readObject();
+        } catch (IOException | ClassNotFoundException | RuntimeException e) {
+            // Cache illisible (classe modifiée, fichier tronqué...): on reparse et on réécrit
+            return null;
+        }
+    }
+
+    private static void writeToDisk(Path file, Object parsed) {
+        if (!(parsed instanceof Serializable)) {
+            throw new IllegalStateException("Persistent parsed input must be Serializable: " + parsed.getClass());
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeObject(parsed);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write parsed input cache: " + file, e);
+        }
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
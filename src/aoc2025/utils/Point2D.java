@@ -1,5 +1,6 @@
 package aoc2025.utils;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.List;
 import java.util.ArrayList;
@@ -8,7 +9,9 @@ import java.util.ArrayList;
  * Classe utilitaire pour les coordonnées 2D.
  * Réutilisable pour tous les puzzles basés sur des grilles.
  */
-public class Point2D implements Comparable<Point2D> {
+public class Point2D implements Comparable<Point2D>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     public final int x;
     public final int y;
 
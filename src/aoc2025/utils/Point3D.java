@@ -1,5 +1,6 @@
 package aoc2025.utils;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.List;
 import java.util.ArrayList;
@@ -8,7 +9,9 @@ import java.util.ArrayList;
  * Classe utilitaire pour les coordonnées 3D.
  * Utile pour les puzzles volumétriques (ex: cubes de lave, tetris 3D).
  */
-public class Point3D implements Comparable<Point3D> {
+public class Point3D implements Comparable<Point3D>, Serializable {
+    private static final long serialVersionUID = 1L;
+
     public final int x;
     public final int y;
     public final int z;
@@ -1,12 +1,13 @@
 package aoc2025.utils;
 
+import java.io.Serializable;
 import java.util.*;
 
 /**
  * Classe pour manipuler des intervalles/ranges.
  * Utile pour les puzzles de mapping et intersection.
  */
-public record Range(long start, long end) implements Comparable<Range> {
+public record Range(long start, long end) implements Comparable<Range>, Serializable {
 
     /**
      * Crée un Range [start, end] (inclusif des deux côtés).
@@ -31,6 +32,26 @@ public record Range(long start, long end) implements Comparable<Range> {
         return new Range(start, start + length - 1);
     }
 
+    /**
+     * Parse le format "start-end" (ex: "3-5"), sans regex ni substring.
+     */
+    public static Range parse(CharSequence s) {
+        int dash = -1;
+        for (int i = 1; i < s.length(); i++) {
+            if (s.charAt(i) == '-') {
+                dash = i;
+                break;
+            }
+        }
+        if (dash < 0) {
+            throw new IllegalArgumentException("Invalid range: " + s);
+        }
+        return new Range(
+            Long.parseLong(s, 0, dash, 10),
+            Long.parseLong(s, dash + 1, s.length(), 10)
+        );
+    }
+
     // ========== PROPERTIES ==========
 
     public long length() {
@@ -132,38 +153,18 @@ public record Range(long start, long end) implements Comparable<Range> {
 
     /**
      * Fusionne une liste de ranges (combine les overlapping/adjacent).
+     * Tri et fusion primitifs via RangeList (pas de record intermédiaire par union).
      */
     public static List<Range> merge(List<Range> ranges) {
         if (ranges.isEmpty()) return List.of();
-
-        List<Range> sorted = new ArrayList<>(ranges);
-        sorted.sort(Comparator.naturalOrder());
-
-        List<Range> merged = new ArrayList<>();
-        Range current = sorted.get(0);
-
-        for (int i = 1; i < sorted.size(); i++) {
-            Range next = sorted.get(i);
-            Optional<Range> union = current.union(next);
-            if (union.isPresent()) {
-                current = union.get();
-            } else {
-                merged.add(current);
-                current = next;
-            }
-        }
-        merged.add(current);
-
-        return merged;
+        return RangeList.of(ranges).merge().toList();
     }
 
     /**
      * Calcule la couverture totale (somme des longueurs après merge).
      */
     public static long totalCoverage(List<Range> ranges) {
-        return merge(ranges).stream()
-            .mapToLong(Range::length)
-            .sum();
+        return RangeList.of(ranges).merge().totalLength();
     }
 
     @Override
@@ -0,0 +1,294 @@
+package aoc2025.utils;
+
+import java.util.*;
+
+/**
+ * Liste mutable de ranges [start, end] inclusifs, stockée en tableaux parallèles long[].
+ * Alternative sans allocation à List<Range> pour les gros volumes (millions d'intervalles):
+ * tri primitif en place, merge en place, et subtract/intersect en un seul balayage
+ * linéaire qui écrit dans un buffer de sortie réutilisable.
+ *
+ * subtract() et intersect() supposent des listes normalisées (merge() appelé avant).
+ */
+public class RangeList {
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private long[] starts;
+    private long[] ends;
+    private int size;
+
+    public RangeList() {
+        this(16);
+    }
+
+    public RangeList(int capacity) {
+        this.starts = new long[Math.max(1, capacity)];
+        this.ends = new long[Math.max(1, capacity)];
+    }
+
+    public static RangeList of(List<Range> ranges) {
+        RangeList list = new RangeList(ranges.size());
+        for (Range r : ranges) {
+            list.add(r.start(), r.end());
+        }
+        return list;
+    }
+
+    // ========== ACCESS ==========
+
+    /**
+     * Ajoute [start, end] (inclusif).
+     */
+    public RangeList add(long start, long end) {
+        if (start > end) {
+            throw new IllegalArgumentException("start > end: " + start + " > " + end);
+        }
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+        return this;
+    }
+
+    public long start(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    public long end(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    public Range get(int index) {
+        checkIndex(index);
+        return new Range(starts[index], ends[index]);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Vide la liste en gardant la capacité (buffer de sortie réutilisable).
+     */
+    public RangeList clear() {
+        size = 0;
+        return this;
+    }
+
+    public RangeList copy() {
+        RangeList copy = new RangeList(size);
+        System.arraycopy(starts, 0, copy.starts, 0, size);
+        System.arraycopy(ends, 0, copy.ends, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    // ========== IN-PLACE OPERATIONS ==========
+
+    /**
+     * Tri en place par (start, end), quicksort primitif sur les deux tableaux.
+     */
+    public RangeList sort() {
+        quicksort(0, size - 1);
+        return this;
+    }
+
+    /**
+     * Trie puis fusionne en place les ranges qui se chevauchent ou sont adjacents.
+     * Résultat: ranges disjoints, non adjacents, triés.
+     */
+    public RangeList merge() {
+        if (size == 0) return this;
+        sort();
+        int out = 0;
+        for (int i = 1; i < size; i++) {
+            // Chevauchement ou adjacence (sans overflow sur end + 1)
+            if (starts[i] <= ends[out] || starts[i] - ends[out] == 1) {
+                ends[out] = Math.max(ends[out], ends[i]);
+            } else {
+                out++;
+                starts[out] = starts[i];
+                ends[out] = ends[i];
+            }
+        }
+        size = out + 1;
+        return this;
+    }
+
+    /**
+     * Décale tous les ranges de delta, en place.
+     */
+    public RangeList shift(long delta) {
+        for (int i = 0; i < size; i++) {
+            starts[i] += delta;
+            ends[i] += delta;
+        }
+        return this;
+    }
+
+    // ========== SWEEPS ==========
+
+    /**
+     * this - other, écrit dans out (vidé au préalable). Les deux listes doivent être mergées.
+     */
+    public RangeList subtract(RangeList other, RangeList out) {
+        checkOutput(other, out);
+        out.clear();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            long cur = starts[i];
+            long end = ends[i];
+            while (j < other.size && other.ends[j] < cur) j++;
+
+            boolean covered = false;
+            for (int k = j; k < other.size && other.starts[k] <= end; k++) {
+                if (other.starts[k] > cur) {
+                    out.add(cur, other.starts[k] - 1);
+                }
+                if (other.ends[k] >= end) {
+                    covered = true;  // Le reste du range est retiré
+                    break;
+                }
+                cur = other.ends[k] + 1;
+            }
+            if (!covered) {
+                out.add(cur, end);
+            }
+        }
+        return out;
+    }
+
+    /**
+     * this ∩ other, écrit dans out (vidé au préalable). Les deux listes doivent être mergées.
+     */
+    public RangeList intersect(RangeList other, RangeList out) {
+        checkOutput(other, out);
+        out.clear();
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            long lo = Math.max(starts[i], other.starts[j]);
+            long hi = Math.min(ends[i], other.ends[j]);
+            if (lo <= hi) {
+                out.add(lo, hi);
+            }
+            // Avance celui qui se termine en premier
+            if (ends[i] < other.ends[j]) i++;
+            else j++;
+        }
+        return out;
+    }
+
+    private void checkOutput(RangeList other, RangeList out) {
+        if (out == this || out == other) {
+            throw new IllegalArgumentException("Output buffer must differ from the operands");
+        }
+    }
+
+    // ========== AGGREGATES ==========
+
+    /**
+     * Somme des longueurs (couverture totale si la liste est mergée).
+     */
+    public long totalLength() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += ends[i] - starts[i] + 1;
+        }
+        return total;
+    }
+
+    public List<Range> toList() {
+        List<Range> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(new Range(starts[i], ends[i]));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('[').append(starts[i]).append("..").append(ends[i]).append(']');
+        }
+        return sb.append(']').toString();
+    }
+
+    // ========== SORT ==========
+
+    private void quicksort(int lo, int hi) {
+        // Récursion sur la plus petite partition, boucle sur l'autre (pile en O(log n))
+        while (hi - lo >= INSERTION_SORT_THRESHOLD) {
+            int mid = (lo + hi) >>> 1;
+            if (less(mid, lo)) swap(mid, lo);
+            if (less(hi, lo)) swap(hi, lo);
+            if (less(hi, mid)) swap(hi, mid);
+            long pivotStart = starts[mid];
+            long pivotEnd = ends[mid];
+
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (compare(starts[i], ends[i], pivotStart, pivotEnd) < 0) i++;
+                while (compare(starts[j], ends[j], pivotStart, pivotEnd) > 0) j--;
+                if (i <= j) swap(i++, j--);
+            }
+            if (j - lo < hi - i) {
+                quicksort(lo, j);
+                lo = i;
+            } else {
+                quicksort(i, hi);
+                hi = j;
+            }
+        }
+        insertionSort(lo, hi);
+    }
+
+    private void insertionSort(int lo, int hi) {
+        for (int i = lo + 1; i <= hi; i++) {
+            long s = starts[i];
+            long e = ends[i];
+            int j = i - 1;
+            while (j >= lo && compare(starts[j], ends[j], s, e) > 0) {
+                starts[j + 1] = starts[j];
+                ends[j + 1] = ends[j];
+                j--;
+            }
+            starts[j + 1] = s;
+            ends[j + 1] = e;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        return compare(starts[a], ends[a], starts[b], ends[b]) < 0;
+    }
+
+    private static int compare(long startA, long endA, long startB, long endB) {
+        int cmp = Long.compare(startA, startB);
+        return cmp != 0 ? cmp : Long.compare(endA, endB);
+    }
+
+    private void swap(int a, int b) {
+        long s = starts[a];
+        starts[a] = starts[b];
+        starts[b] = s;
+        long e = ends[a];
+        ends[a] = ends[b];
+        ends[b] = e;
+    }
+}
@@ -0,0 +1,127 @@
+package aoc2025.utils;
+
+import java.util.*;
+
+/**
+ * Ensemble immuable de ranges fusionnés (disjoints, non adjacents, triés),
+ * stocké en tableaux parallèles long[] starts / ends.
+ * contains() est une recherche dichotomique en O(log n); un lot de requêtes triées
+ * se traite en un seul parcours fusionné en O(n + q).
+ */
+public class RangeSet {
+    private final long[] starts;
+    private final long[] ends;
+
+    private RangeSet(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * Construit l'ensemble à partir de ranges quelconques (fusionnés au passage).
+     */
+    public static RangeSet of(List<Range> ranges) {
+        return of(RangeList.of(ranges));
+    }
+
+    /**
+     * Construit l'ensemble à partir d'une RangeList (non modifiée).
+     */
+    public static RangeSet of(RangeList ranges) {
+        RangeList merged = ranges.copy().merge();
+        long[] starts = new long[merged.size()];
+        long[] ends = new long[merged.size()];
+        for (int i = 0; i < merged.size(); i++) {
+            starts[i] = merged.start(i);
+            ends[i] = merged.end(i);
+        }
+        return new RangeSet(starts, ends);
+    }
+
+    // ========== QUERIES ==========
+
+    /**
+     * Vrai si value tombe dans un des ranges: dernier start <= value, puis test de son end.
+     */
+    public boolean contains(long value) {
+        int i = Arrays.binarySearch(starts, value);
+        if (i >= 0) return true;
+        int candidate = -i - 2;  // Insertion point - 1
+        return candidate >= 0 && value <= ends[candidate];
+    }
+
+    /**
+     * Appartenance de chaque requête (triées par ordre croissant), par parcours fusionné.
+     */
+    public boolean[] containsAll(long[] sortedQueries) {
+        boolean[] result = new boolean[sortedQueries.length];
+        int r = 0;
+        for (int q = 0; q < sortedQueries.length; q++) {
+            long value = sortedQueries[q];
+            if (q > 0 && value < sortedQueries[q - 1]) {
+                throw new IllegalArgumentException("Queries must be sorted (index " + q + ")");
+            }
+            while (r < ends.length && ends[r] < value) r++;
+            result[q] = r < ends.length && starts[r] <= value;
+        }
+        return result;
+    }
+
+    /**
+     * Nombre de requêtes (triées) contenues dans l'ensemble, sans tableau intermédiaire.
+     */
+    public long countContained(long[] sortedQueries) {
+        long count = 0;
+        int r = 0;
+        for (int q = 0; q < sortedQueries.length; q++) {
+            long value = sortedQueries[q];
+            if (q > 0 && value < sortedQueries[q - 1]) {
+                throw new IllegalArgumentException("Queries must be sorted (index " + q + ")");
+            }
+            while (r < ends.length && ends[r] < value) r++;
+            if (r < ends.length && starts[r] <= value) count++;
+        }
+        return count;
+    }
+
+    // ========== PROPERTIES ==========
+
+    /**
+     * Nombre de ranges après fusion.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public Range get(int index) {
+        return new Range(starts[index], ends[index]);
+    }
+
+    /**
+     * Nombre total de valeurs couvertes.
+     */
+    public long totalCoverage() {
+        long total = 0;
+        for (int i = 0; i < starts.length; i++) {
+            total += ends[i] - starts[i] + 1;
+        }
+        return total;
+    }
+
+    public List<Range> toList() {
+        List<Range> result = new ArrayList<>(starts.length);
+        for (int i = 0; i < starts.length; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+}
@@ -0,0 +1,254 @@
+package aoc2025.utils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.zip.CRC32C;
+
+/**
+ * Snapshot binaire d'un input parsé, écrit à côté du fichier texte
+ * (input/input_day08.txt -> input/input_day08.points3.snap).
+ *
+ * Format (little-endian):
+ *   0: int magic "SNAP", 4: int version,
+ *   8: long checksum CRC32C de l'input texte, 16: long taille de l'input texte,
+ *   24: int nombre de sections, 28: int réservé,
+ *   32: table des sections, 32 octets chacune:
+ *       int type, int dim0, int dim1, int réservé, long offset, long taille en octets
+ *   puis les données de chaque section, alignées sur 8 octets.
+ * Le fichier est mappé en mémoire à la lecture; les sections sont des vues sur le buffer.
+ * Si le checksum ne correspond plus à l'input, ou si la table des sections sort du fichier
+ * (fichier tronqué ou corrompu), le snapshot est ignoré (et régénéré par l'appelant).
+ */
+public class Snapshot {
+
+    private static final int MAGIC = 0x50414E53;  // "SNAP" en little-endian
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int SECTION_ENTRY_SIZE = 32;
+
+    public static final int TYPE_BYTES = 1;
+    public static final int TYPE_INTS = 2;
+    public static final int TYPE_LONGS = 3;
+
+    private final ByteBuffer buffer;
+    private final int sectionCount;
+
+    private Snapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.sectionCount = buffer.getInt(24);
+    }
+
+    // ========== PATHS / CHECKSUM ==========
+
+    /**
+     * Chemin du snapshot 'name' associé à un fichier input.
+     */
+    public static Path pathFor(String inputFile, String name) {
+        Path input = Path.of(inputFile);
+        String fileName = input.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String base = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return input.resolveSibling(base + "." + name + ".snap");
+    }
+
+    /**
+     * CRC32C d'un buffer (sans modifier sa position).
+     */
+    public static long checksum(ByteBuffer content) {
+        CRC32C crc = new CRC32C();
+        crc.update(content.duplicate());
+        return crc.getValue();
+    }
+
+    // ========== READING ==========
+
+    /**
+     * Mappe un snapshot existant et valide pour cet input, sinon Optional.empty()
+     * (absent, corrompu, autre version ou input modifié depuis).
+     */
+    public static Optional<Snapshot> open(Path file, long checksum, long sourceSize) {
+        if (!Files.exists(file)) return Optional.empty();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) return Optional.empty();
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                .order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || buffer.getLong(8) != checksum || buffer.getLong(16) != sourceSize) {
+                return Optional.empty();
+            }
+            if (!sectionsInBounds(buffer)) return Optional.empty();
+            return Optional.of(new Snapshot(buffer));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Vrai si la table des sections et chaque section [offset, offset + taille) tiennent
+     * dans le fichier, et si les dimensions déclarées tiennent dans la taille de la section.
+     */
+    private static boolean sectionsInBounds(ByteBuffer buffer) {
+        int count = buffer.getInt(24);
+        long tableEnd = HEADER_SIZE + (long) count * SECTION_ENTRY_SIZE;
+        if (count < 0 || tableEnd > buffer.limit()) return false;
+        for (int i = 0; i < count; i++) {
+            int e = HEADER_SIZE + i * SECTION_ENTRY_SIZE;
+            long dim0 = buffer.getInt(e + 4);
+            long dim1 = buffer.getInt(e + 8);
+            long offset = buffer.getLong(e + 16);
+            long length = buffer.getLong(e + 24);
+            if (offset < tableEnd || length < 0 || length > buffer.limit() - offset) return false;
+
+            long needed = switch (buffer.getInt(e)) {
+                case TYPE_LONGS -> dim0 * 8;
+                case TYPE_INTS -> dim0 * 4;
+                case TYPE_BYTES -> dim0 * dim1;
+                default -> -1;
+            };
+            if (dim0 < 0 || dim1 < 0 || needed < 0 || needed > length) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Vrai si la section existe et a le type attendu (snapshot d'un autre format sinon).
+     */
+    public boolean hasSection(int section, int type) {
+        return section >= 0 && section < sectionCount && type(section) == type;
+    }
+
+    public int sectionCount() {
+        return sectionCount;
+    }
+
+    public int type(int section) {
+        return buffer.getInt(entry(section));
+    }
+
+    public int dim0(int section) {
+        return buffer.getInt(entry(section) + 4);
+    }
+
+    public int dim1(int section) {
+        return buffer.getInt(entry(section) + 8);
+    }
+
+    /**
+     * Données brutes de la section (vue little-endian sur le fichier mappé).
+     */
+    public ByteBuffer section(int section) {
+        int e = entry(section);
+        int offset = (int) buffer.getLong(e + 16);
+        int length = (int) buffer.getLong(e + 24);
+        return buffer.slice(offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public long[] longs(int section) {
+        checkType(section, TYPE_LONGS);
+        long[] values = new long[dim0(section)];
+        section(section).asLongBuffer().get(values);
+        return values;
+    }
+
+    public int[] ints(int section) {
+        checkType(section, TYPE_INTS);
+        int[] values = new int[dim0(section)];
+        section(section).asIntBuffer().get(values);
+        return values;
+    }
+
+    private int entry(int section) {
+        if (section < 0 || section >= sectionCount) {
+            throw new IndexOutOfBoundsException("Section " + section + " out of " + sectionCount);
+        }
+        return HEADER_SIZE + section * SECTION_ENTRY_SIZE;
+    }
+
+    private void checkType(int section, int expected) {
+        if (type(section) != expected) {
+            throw new IllegalStateException("Section " + section + " has type " + type(section));
+        }
+    }
+
+    // ========== WRITING ==========
+
+    /**
+     * Construit et écrit un snapshot section par section.
+     */
+    public static class Writer {
+        private record Section(int type, int dim0, int dim1, byte[] data) {}
+
+        private final List<Section> sections = new ArrayList<>();
+
+        public Writer addLongs(long[] values) {
+            ByteBuffer data = ByteBuffer.allocate(values.length * 8).order(ByteOrder.LITTLE_ENDIAN);
+            data.asLongBuffer().put(values);
+            sections.add(new Section(TYPE_LONGS, values.length, 0, data.array()));
+            return this;
+        }
+
+        public Writer addInts(int[] values) {
+            ByteBuffer data = ByteBuffer.allocate(values.length * 4).order(ByteOrder.LITTLE_ENDIAN);
+            data.asIntBuffer().put(values);
+            sections.add(new Section(TYPE_INTS, values.length, 0, data.array()));
+            return this;
+        }
+
+        /**
+         * Octets bruts avec 2 dimensions (ex: grille width × height, ligne par ligne).
+         */
+        public Writer addBytes(byte[] values, int dim0, int dim1) {
+            sections.add(new Section(TYPE_BYTES, dim0, dim1, values));
+            return this;
+        }
+
+        /**
+         * Écrit le snapshot (atomiquement, via fichier temporaire).
+         */
+        public void write(Path file, long checksum, long sourceSize) {
+            long offset = align(HEADER_SIZE + (long) sections.size() * SECTION_ENTRY_SIZE);
+            long[] offsets = new long[sections.size()];
+            for (int i = 0; i < sections.size(); i++) {
+                offsets[i] = offset;
+                offset = align(offset + sections.get(i).data().length);
+            }
+            if (offset > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Snapshot too large: " + offset + " bytes");
+            }
+
+            ByteBuffer out = ByteBuffer.allocate((int) offset).order(ByteOrder.LITTLE_ENDIAN);
+            out.putInt(0, MAGIC);
+            out.putInt(4, VERSION);
+            out.putLong(8, checksum);
+            out.putLong(16, sourceSize);
+            out.putInt(24, sections.size());
+            for (int i = 0; i < sections.size(); i++) {
+                Section s = sections.get(i);
+                int e = HEADER_SIZE + i * SECTION_ENTRY_SIZE;
+                out.putInt(e, s.type());
+                out.putInt(e + 4, s.dim0());
+                out.putInt(e + 8, s.dim1());
+                out.putLong(e + 16, offsets[i]);
+                out.putLong(e + 24, s.data().length);
+                out.put((int) offsets[i], s.data());
+            }
+
+            try {
+                Path dir = file.toAbsolutePath().getParent();
+                Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+                Files.write(tmp, out.array());
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write snapshot: " + file, e);
+            }
+        }
+
+        private static long align(long offset) {
+            return (offset + 7) & ~7L;
+        }
+    }
+}
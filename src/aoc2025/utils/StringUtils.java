@@ -196,6 +196,42 @@ public class StringUtils {
         return padLeft(Long.toBinaryString(value), bits, '0');
     }
 
+    // ========== DIGITS ==========
+
+    /**
+     * Plus grand nombre formé de k chiffres de 'digits' pris dans l'ordre (sous-séquence).
+     * Pile monotone en O(n): un chiffre chasse les plus petits chiffres qui le précèdent
+     * tant qu'il reste des chiffres à écarter (n - k). Seule allocation: char[k].
+     * Ex: maxSubsequence("818181911112111", 12) -> 888911112111
+     */
+    public static long maxSubsequence(CharSequence digits, int k) {
+        int n = digits.length();
+        if (k < 1 || k > n || k > 18) {
+            throw new IllegalArgumentException("Cannot pick " + k + " digits out of " + n);
+        }
+        char[] stack = new char[k];
+        int top = 0;
+        int toDrop = n - k;
+        for (int i = 0; i < n; i++) {
+            char c = digits.charAt(i);
+            while (top > 0 && toDrop > 0 && stack[top - 1] < c) {
+                top--;
+                toDrop--;
+            }
+            if (top < k) {
+                stack[top++] = c;
+            } else {
+                toDrop--;  // Pile pleine: c est écarté
+            }
+        }
+
+        long value = 0;
+        for (int i = 0; i < k; i++) {
+            value = value * 10 + (stack[i] - '0');
+        }
+        return value;
+    }
+
     // ========== DISTANCE ==========
 
     /**
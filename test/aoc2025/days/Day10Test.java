@@ -0,0 +1,167 @@
+package aoc2025.days;
+
+import aoc2025.utils.MathUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests du Day 10, sans dépendance (lancer avec java, voir GUIDE.md).
+ * Chaque test lève une AssertionError en cas d'échec.
+ */
+public class Day10Test {
+
+    public static void main(String[] args) {
+        examplePart1();
+        moreThanThirtyTwoLights();
+        malformedLinesAreRejected();
+        oversizedMachineIsNamed();
+        joltageSearchMatchesIntegerLP();
+        System.out.println("Day10Test OK");
+    }
+
+    static void examplePart1() {
+        assertEquals(2, Day10.minPresses(Day10.MachineSpec.parse("[.##.] (3) (1,3) (2) (2,3) (0,2) (0,1) {3,5,4,7}")));
+        assertEquals(3, Day10.minPresses(Day10.MachineSpec.parse("[...#.] (0,2,3,4) (2,3) (0,4) (0,1,2) (1,2,3,4) {7,5,12,7,2}")));
+        assertEquals(2, Day10.minPresses(Day10.MachineSpec.parse("[.###.#] (0,1,2,3,4) (0,3,4) (0,1,2,4,5) (1,2) {10,11,11,5,10,5}")));
+    }
+
+    /**
+     * Machines de 40 et 70 lumières (au-delà d'un int et d'un long): le résultat est
+     * comparé à l'énumération de tous les sous-ensembles de boutons.
+     * Une cible sur deux est atteignable (XOR de boutons tirés au hasard).
+     */
+    static void moreThanThirtyTwoLights() {
+        Random random = new Random(3);
+        for (int lights : new int[]{40, 70}) {
+            for (int iteration = 0; iteration < 20; iteration++) {
+                int[][] buttons = new int[4 + random.nextInt(9)][];
+                for (int b = 0; b < buttons.length; b++) {
+                    buttons[b] = random.ints(1 + random.nextInt(6), 0, lights).distinct().sorted().toArray();
+                }
+                boolean[] target = new boolean[lights];
+                for (int i = 0; i < lights; i++) target[i] = random.nextInt(4) == 0;
+                if (iteration % 2 == 0) {
+                    target = new boolean[lights];
+                    for (int[] button : buttons) {
+                        if (random.nextBoolean()) toggle(target, button);
+                    }
+                }
+
+                String line = toLine(target, buttons);
+                assertEquals(bruteForce(buttons, target), Day10.minPresses(Day10.MachineSpec.parse(line)));
+            }
+        }
+    }
+
+    static void malformedLinesAreRejected() {
+        for (String line : new String[]{"[.#] () {1,2}", "[.#] (0, 1) {1,2}", "[.#] (0,) {1,2}", "[.#] (2) {1,2}", "[.#] (0) {1,2",
+                "[.##.] (3) {1,2}"}) {
+            try {
+                Day10.MachineSpec.parse(line);
+                throw new AssertionError("Accepted malformed line: " + line);
+            } catch (IllegalArgumentException expected) {
+                // OK
+            }
+        }
+    }
+
+    /**
+     * 50 boutons sur 5 lumières: noyau de dimension >= 45, trop grand pour être énuméré.
+     * L'erreur doit désigner la machine.
+     */
+    static void oversizedMachineIsNamed() {
+        StringBuilder line = new StringBuilder("[#....]");
+        for (int b = 0; b < 50; b++) line.append(" (").append(b % 5).append(')');
+        line.append(" {0,0,0,0,0}");
+        try {
+            Day10.minPresses(Day10.MachineSpec.parse(line.toString()));
+            throw new AssertionError("Oversized machine was enumerated");
+        } catch (IllegalStateException e) {
+            if (!e.getMessage().contains(line)) {
+                throw new AssertionError("Machine missing from message: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Part 2 par recherche sur les variables libres, comparée au branch-and-bound.
+     * Une touche unitaire par compteur (rang plein) et au plus 3 boutons de plus:
+     * au plus 3 variables libres, l'espace reste sous le seuil de la recherche exacte.
+     */
+    static void joltageSearchMatchesIntegerLP() {
+        Random random = new Random(5);
+        for (int iteration = 0; iteration < 200; iteration++) {
+            int counters = 2 + random.nextInt(5);
+            List<int[]> buttonList = new ArrayList<>();
+            for (int i = 0; i < counters; i++) buttonList.add(new int[]{i});
+            for (int extra = random.nextInt(4); extra > 0; extra--) {
+                buttonList.add(random.ints(1 + random.nextInt(counters), 0, counters).distinct().sorted().toArray());
+            }
+            Collections.shuffle(buttonList, random);
+            int[][] buttons = buttonList.toArray(new int[0][]);
+
+            int[] targets = new int[counters];
+            for (int[] button : buttons) {
+                int presses = random.nextInt(6);
+                for (int i : button) targets[i] += presses;
+            }
+
+            double[][] a = new double[counters][buttons.length];
+            for (int j = 0; j < buttons.length; j++)
+                for (int i : buttons[j]) a[i][j] = 1;
+            double[] b = Arrays.stream(targets).asDoubleStream().toArray();
+            double[] c = new double[buttons.length];
+            Arrays.fill(c, 1);
+            long expected = Arrays.stream(MathUtils.minimizeIntegerLP(a, b, c)).sum();
+
+            assertEquals(expected, Day10.solveJoltage(new Day10.JoltageMachine(targets, buttons)));
+        }
+    }
+
+    // ========== HELPERS ==========
+
+    private static String toLine(boolean[] target, int[][] buttons) {
+        StringBuilder line = new StringBuilder("[");
+        for (boolean on : target) line.append(on ? '#' : '.');
+        line.append(']');
+        for (int[] button : buttons) {
+            line.append(" (");
+            for (int k = 0; k < button.length; k++) line.append(k > 0 ? "," : "").append(button[k]);
+            line.append(')');
+        }
+        line.append(" {");
+        for (int i = 0; i < target.length; i++) line.append(i > 0 ? ",0" : "0");
+        return line.append('}').toString();
+    }
+
+    private static void toggle(boolean[] lights, int[] button) {
+        for (int i : button) lights[i] = !lights[i];
+    }
+
+    /**
+     * Plus petit nombre de boutons dont le XOR donne la cible, -1 si aucun.
+     */
+    private static int bruteForce(int[][] buttons, boolean[] target) {
+        int best = -1;
+        for (int subset = 0; subset < 1 << buttons.length; subset++) {
+            boolean[] on = new boolean[target.length];
+            for (int b = 0; b < buttons.length; b++) {
+                if ((subset >> b & 1) != 0) toggle(on, buttons[b]);
+            }
+            if (Arrays.equals(on, target) && (best < 0 || Integer.bitCount(subset) < best)) {
+                best = Integer.bitCount(subset);
+            }
+        }
+        return best;
+    }
+
+    private static void assertEquals(long expected, long actual) {
+        if (expected != actual) {
+            throw new AssertionError("Expected " + expected + " but was " + actual);
+        }
+    }
+}
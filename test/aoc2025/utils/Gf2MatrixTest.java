@@ -0,0 +1,127 @@
+package aoc2025.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests de Gf2Matrix, sans dépendance (lancer avec java, voir GUIDE.md).
+ * Chaque test lève une AssertionError en cas d'échec.
+ */
+public class Gf2MatrixTest {
+
+    public static void main(String[] args) {
+        minWeightMatchesBruteForce();
+        minWeightAboveSixtyFourRows();
+        minWeightAboveMeetInTheMiddleCap();
+        inconsistentSystemHasNoSolution();
+        System.out.println("Gf2MatrixTest OK");
+    }
+
+    /**
+     * Petits systèmes aléatoires: poids minimal comparé à l'énumération de tous les x.
+     * Peu de lignes et beaucoup de colonnes: noyau large, donc meet-in-the-middle.
+     */
+    static void minWeightMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int iteration = 0; iteration < 500; iteration++) {
+            int rows = 1 + random.nextInt(10);
+            int cols = 1 + random.nextInt(14);
+            Gf2Matrix m = randomMatrix(random, rows, cols);
+            long[] rhs = {random.nextInt(1 << rows)};
+
+            int expected = -1;
+            for (long x = 0; x < 1L << cols; x++) {
+                if (Arrays.equals(multiply(m, new long[]{x}), rhs)
+                        && (expected < 0 || Long.bitCount(x) < expected)) {
+                    expected = Long.bitCount(x);
+                }
+            }
+
+            long[] x = m.minWeightSolution(rhs);
+            if (expected < 0) {
+                assertTrue(x == null, "Expected no solution");
+            } else {
+                assertTrue(x != null, "Expected a solution");
+                assertTrue(Arrays.equals(multiply(m, x), rhs), "A x != rhs");
+                assertEquals(expected, Gf2Matrix.weight(x));
+            }
+        }
+    }
+
+    /**
+     * 70 lignes (au-delà d'un long): solution planifiée de poids 2.
+     */
+    static void minWeightAboveSixtyFourRows() {
+        Random random = new Random(11);
+        Gf2Matrix m = randomMatrix(random, 70, 12);
+        long[] planted = {0b100000010000L};
+        long[] rhs = multiply(m, planted);
+
+        long[] x = m.minWeightSolution(rhs);
+        assertTrue(Arrays.equals(multiply(m, x), rhs), "A x != rhs");
+        assertTrue(Gf2Matrix.weight(x) <= 2, "Weight above planted solution: " + Gf2Matrix.weight(x));
+    }
+
+    /**
+     * 42 colonnes, 20 lignes: le meet-in-the-middle demanderait une table de 2^21 entrées,
+     * au-delà du plafond; le noyau (dimension >= 22) est parcouru à la place.
+     */
+    static void minWeightAboveMeetInTheMiddleCap() {
+        Random random = new Random(13);
+        Gf2Matrix m = randomMatrix(random, 20, 42);
+        long[] planted = {(1L << 3) | (1L << 30) | (1L << 41)};
+        long[] rhs = multiply(m, planted);
+
+        long[] x = m.minWeightSolution(rhs);
+        assertTrue(Arrays.equals(multiply(m, x), rhs), "A x != rhs");
+        assertTrue(Gf2Matrix.weight(x) <= 3, "Weight above planted solution: " + Gf2Matrix.weight(x));
+    }
+
+    static void inconsistentSystemHasNoSolution() {
+        Gf2Matrix m = new Gf2Matrix(2, 2);
+        m.set(0, 0, true);
+        m.set(0, 1, true);
+        m.set(1, 0, true);
+        m.set(1, 1, true);
+        assertEquals(1, m.rank());
+        assertTrue(m.solve(new long[]{0b01}) == null, "Rows are equal: rhs must be equal too");
+        assertTrue(m.minWeightSolution(new long[]{0b10}) == null, "Expected no solution");
+    }
+
+    // ========== HELPERS ==========
+
+    private static Gf2Matrix randomMatrix(Random random, int rows, int cols) {
+        Gf2Matrix m = new Gf2Matrix(rows, cols);
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                m.set(r, c, random.nextBoolean());
+        return m;
+    }
+
+    /**
+     * A x sur GF(2), en bitset sur les lignes.
+     */
+    private static long[] multiply(Gf2Matrix m, long[] x) {
+        long[] result = new long[Math.max(1, (m.rows() + 63) >>> 6)];
+        for (int r = 0; r < m.rows(); r++) {
+            boolean bit = false;
+            for (int c = 0; c < m.cols(); c++) {
+                if (m.get(r, c) && (x[c >>> 6] >>> c & 1) != 0) bit = !bit;
+            }
+            if (bit) result[r >>> 6] |= 1L << r;
+        }
+        return result;
+    }
+
+    private static void assertEquals(long expected, long actual) {
+        if (expected != actual) {
+            throw new AssertionError("Expected " + expected + " but was " + actual);
+        }
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package aoc2025.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Tests de IntervalTree, sans dépendance (lancer avec java, voir GUIDE.md).
+ * Chaque test lève une AssertionError en cas d'échec.
+ */
+public class IntervalTreeTest {
+
+    private static final int LIVE_RANGES = 10;
+    private static final int MAX_NODES_PER_RANGE = 2 * 2 * 63;  // 2 nœuds canoniques par niveau + leurs chemins
+
+    public static void main(String[] args) {
+        nodesStayBoundedUnderInsertDeleteStream();
+        System.out.println("IntervalTreeTest OK");
+    }
+
+    /**
+     * Flux de 100 000 ranges distincts avec au plus LIVE_RANGES vivants: le nombre de nœuds
+     * suit l'ensemble vivant (slots libérés réutilisés), et la couverture reste exacte.
+     */
+    static void nodesStayBoundedUnderInsertDeleteStream() {
+        Random random = new Random(17);
+        IntervalTree tree = new IntervalTree();
+        Deque<Integer> handles = new ArrayDeque<>();
+        Deque<Range> live = new ArrayDeque<>();
+        int maxNodes = 0;
+
+        for (int i = 0; i < 100_000; i++) {
+            long start = random.nextLong(Long.MAX_VALUE / 2);
+            long end = start + random.nextLong(1L << 40);
+            handles.addLast(tree.insert(start, end));
+            live.addLast(new Range(start, end));
+            if (handles.size() > LIVE_RANGES) {
+                assertTrue(tree.delete(handles.removeFirst()), "Delete failed");
+                live.removeFirst();
+            }
+            maxNodes = Math.max(maxNodes, tree.liveNodes());
+
+            if (i % 1000 == 0) {
+                RangeList expected = new RangeList();
+                for (Range r : live) expected.add(r.start(), r.end());
+                assertTrue(tree.coverage() == expected.merge().totalLength(), "Coverage mismatch at " + i);
+            }
+        }
+        assertTrue(maxNodes <= 1 + (LIVE_RANGES + 1) * MAX_NODES_PER_RANGE, "Node count grew to " + maxNodes);
+
+        while (!handles.isEmpty()) tree.delete(handles.removeFirst());
+        assertTrue(tree.liveNodes() == 1, "Only the root should remain, found " + tree.liveNodes());
+        assertTrue(tree.coverage() == 0, "Empty tree must cover nothing");
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
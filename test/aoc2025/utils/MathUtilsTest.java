@@ -0,0 +1,60 @@
+package aoc2025.utils;
+
+import java.util.Arrays;
+
+/**
+ * Tests de non-régression de MathUtils, sans dépendance (lancer avec java, voir GUIDE.md).
+ * Chaque test lève une AssertionError en cas d'échec.
+ */
+public class MathUtilsTest {
+
+    public static void main(String[] args) {
+        minimizeIntegerLPBranchesOnInfeasibleRounding();
+        minimizeIntegerLPSolvesSmallSystem();
+        System.out.println("MathUtilsTest OK");
+    }
+
+    // ========== INTEGER LINEAR PROGRAMMING ==========
+
+    /**
+     * 1e9·x0 + x1 = 3e9 + 1, minimiser x1: la relaxation donne x0 = 3 + 1e-9 (à moins
+     * de INTEGRALITY_EPS d'un entier), mais l'arrondi (3, 0) est infaisable.
+     * Le nœud doit être rebranché, pas abandonné: optimum (3, 1).
+     */
+    static void minimizeIntegerLPBranchesOnInfeasibleRounding() {
+        double[][] a = {{1e9, 1}};
+        double[] b = {3e9 + 1};
+        double[] c = {0, 1};
+        assertArrayEquals(new long[]{3, 1}, MathUtils.minimizeIntegerLP(a, b, c));
+    }
+
+    /**
+     * Machine du Day 10 (exemple): boutons (3) (1,3) (2) (2,3) (0,2) (0,1), cibles {3,5,4,7}.
+     */
+    static void minimizeIntegerLPSolvesSmallSystem() {
+        int[][] buttons = {{3}, {1, 3}, {2}, {2, 3}, {0, 2}, {0, 1}};
+        double[] b = {3, 5, 4, 7};
+        double[][] a = new double[b.length][buttons.length];
+        for (int j = 0; j < buttons.length; j++)
+            for (int i : buttons[j]) a[i][j] = 1;
+        double[] c = new double[buttons.length];
+        Arrays.fill(c, 1);
+
+        long[] x = MathUtils.minimizeIntegerLP(a, b, c);
+        assertEquals(10, Arrays.stream(x).sum());
+    }
+
+    // ========== ASSERTIONS ==========
+
+    private static void assertEquals(long expected, long actual) {
+        if (expected != actual) {
+            throw new AssertionError("Expected " + expected + " but was " + actual);
+        }
+    }
+
+    private static void assertArrayEquals(long[] expected, long[] actual) {
+        if (!Arrays.equals(expected, actual)) {
+            throw new AssertionError("Expected " + Arrays.toString(expected) + " but was " + Arrays.toString(actual));
+        }
+    }
+}